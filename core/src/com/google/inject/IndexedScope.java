@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+/**
+ * A {@link Scope} whose instances can be stored by index rather than by key. When creating an
+ * injector, Guice assigns every binding in an indexed scope a <i>slot</i>: a small integer that is
+ * unique to that binding among all bindings of the same scope instance in the injectors that are
+ * still reachable. Slots are dense and start at {@code 0}, so a scope can keep its instances in a
+ * plain {@code Object[]} and look them up with an array load instead of a map or attribute lookup.
+ *
+ * <p>Slots are handed out as injectors are created, so implementations must be prepared to see a
+ * slot that is larger than the storage they allocated earlier, typically by growing the array
+ * with {@link java.util.Arrays#copyOf(Object[], int)}.
+ *
+ * <p>Once an injector has been garbage collected its slots are handed out again, which keeps the
+ * storage bounded when child injectors are created and discarded repeatedly. A scope whose
+ * storage can outlive an injector (for example a thread or a session that is reused) should
+ * therefore store each instance together with a token created for the scoped provider, and treat
+ * a slot holding another token as empty. The token shouldn't reference the unscoped provider, or
+ * the stored instances will keep the injector, and with it the slot, alive.
+ *
+ * <p>Guice only calls {@link #scope(Key, int, Provider)} for bindings it creates itself; callers
+ * that use the {@code Scope} directly (for example through {@link Scope#scope(Key, Provider)})
+ * continue to work, so implementations should still support key based scoping.
+ */
+public interface IndexedScope extends Scope {
+
+  /**
+   * Scopes a provider, storing its instances in {@code slot}. See {@link Scope#scope(Key,
+   * Provider)}.
+   *
+   * @param key binding key
+   * @param slot the index assigned to this binding, unique for this scope instance among the
+   *     bindings of reachable injectors
+   * @param unscoped locates an instance when one doesn't already exist in this scope.
+   * @return a new provider which only delegates to the given unscoped provider when an instance of
+   *     the requested object doesn't already exist in this scope
+   */
+  <T> Provider<T> scope(Key<T> key, int slot, Provider<T> unscoped);
+}
@@ -22,6 +22,7 @@ import static com.google.inject.internal.MoreTypes.canonicalize;
 
 import com.google.common.collect.ImmutableList;
 import com.google.inject.internal.MoreTypes;
+import com.google.inject.internal.util.Classes;
 import com.google.inject.util.Types;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -33,6 +34,9 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Represents a generic type {@code T}. Java doesn't yet provide a way to represent generic types,
@@ -64,6 +68,15 @@ public class TypeLiteral<T> {
   final Type type;
   final int hashCode;
 
+  /**
+   * The resolved supertypes, field types and return types that have been asked for, keyed by the
+   * supertype's class or the member. Null until the first is asked for.
+   */
+  private volatile ConcurrentMap<Object, TypeLiteral<?>> resolvedTypes;
+
+  /** The resolved parameter types that have been asked for. Null until the first is asked for. */
+  private volatile ConcurrentMap<Member, List<TypeLiteral<?>>> resolvedParameterTypes;
+
   /**
    * Constructs a new type literal. Derives represented class from type parameter.
    *
@@ -146,8 +159,71 @@ public class TypeLiteral<T> {
   }
 
   /** Gets type literal for the given {@code Class} instance. */
+  @SuppressWarnings("unchecked") // CLASS_LITERALS maps each class to its own type literal
   public static <T> TypeLiteral<T> get(Class<T> type) {
-    return new TypeLiteral<T>(type);
+    return Classes.isLoadedWithGuice(type)
+        ? (TypeLiteral<T>) CLASS_LITERALS.get(type)
+        : new TypeLiteral<T>(type);
+  }
+
+  /**
+   * One type literal per class, so that the member types each one resolves are shared. Only classes
+   * loaded by Guice's class loader or a descendant are cached: a literal stored on a class such as
+   * {@code java.lang.String} would keep Guice's class loader alive for as long as that class is
+   * loaded, so those classes get a new literal each time.
+   */
+  private static final ClassValue<TypeLiteral<?>> CLASS_LITERALS =
+      new ClassValue<TypeLiteral<?>>() {
+        @Override
+        protected TypeLiteral<?> computeValue(Class<?> type) {
+          return new TypeLiteral<Object>(type);
+        }
+      };
+
+  /**
+   * The most resolved types memoized by a type literal. This bounds the memory used by literals
+   * that are asked about members other than their own, like literals of common supertypes.
+   */
+  private static final int MAX_RESOLVED_TYPES = 256;
+
+  // Installs the memos without locking the type literal, which users may synchronize on.
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<TypeLiteral, ConcurrentMap>
+      RESOLVED_TYPES_UPDATER =
+          AtomicReferenceFieldUpdater.newUpdater(
+              TypeLiteral.class, ConcurrentMap.class, "resolvedTypes");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<TypeLiteral, ConcurrentMap>
+      RESOLVED_PARAMETER_TYPES_UPDATER =
+          AtomicReferenceFieldUpdater.newUpdater(
+              TypeLiteral.class, ConcurrentMap.class, "resolvedParameterTypes");
+
+  private ConcurrentMap<Object, TypeLiteral<?>> resolvedTypes() {
+    ConcurrentMap<Object, TypeLiteral<?>> local = resolvedTypes;
+    if (local == null) {
+      RESOLVED_TYPES_UPDATER.compareAndSet(this, null, new ConcurrentHashMap<>());
+      local = resolvedTypes;
+    }
+    return local;
+  }
+
+  private ConcurrentMap<Member, List<TypeLiteral<?>>> resolvedParameterTypes() {
+    ConcurrentMap<Member, List<TypeLiteral<?>>> local = resolvedParameterTypes;
+    if (local == null) {
+      RESOLVED_PARAMETER_TYPES_UPDATER.compareAndSet(this, null, new ConcurrentHashMap<>());
+      local = resolvedParameterTypes;
+    }
+    return local;
+  }
+
+  /** Stores {@code value} in {@code memo}, unless it's full, and returns the value to use. */
+  private static <K, V> V memoize(ConcurrentMap<K, V> memo, K key, V value) {
+    if (memo.size() >= MAX_RESOLVED_TYPES) {
+      return value;
+    }
+    V existing = memo.putIfAbsent(key, value);
+    return existing != null ? existing : value;
   }
 
   /** Returns an immutable list of the resolved types. */
@@ -235,9 +311,15 @@ public class TypeLiteral<T> {
    * @since 2.0
    */
   public TypeLiteral<?> getSupertype(Class<?> supertype) {
+    ConcurrentMap<Object, TypeLiteral<?>> memo = resolvedTypes();
+    TypeLiteral<?> resolved = memo.get(supertype);
+    if (resolved != null) {
+      return resolved;
+    }
     checkArgument(
         supertype.isAssignableFrom(rawType), "%s is not a supertype of %s", supertype, this.type);
-    return resolve(MoreTypes.getGenericSupertype(type, rawType, supertype));
+    return memoize(
+        memo, supertype, resolve(MoreTypes.getGenericSupertype(type, rawType, supertype)));
   }
 
   /**
@@ -247,12 +329,17 @@ public class TypeLiteral<T> {
    * @since 2.0
    */
   public TypeLiteral<?> getFieldType(Field field) {
+    ConcurrentMap<Object, TypeLiteral<?>> memo = resolvedTypes();
+    TypeLiteral<?> resolved = memo.get(field);
+    if (resolved != null) {
+      return resolved;
+    }
     checkArgument(
         field.getDeclaringClass().isAssignableFrom(rawType),
         "%s is not defined by a supertype of %s",
         field,
         type);
-    return resolve(field.getGenericType());
+    return memoize(memo, field, resolve(field.getGenericType()));
   }
 
   /**
@@ -262,6 +349,11 @@ public class TypeLiteral<T> {
    * @since 2.0
    */
   public List<TypeLiteral<?>> getParameterTypes(Member methodOrConstructor) {
+    ConcurrentMap<Member, List<TypeLiteral<?>>> memo = resolvedParameterTypes();
+    List<TypeLiteral<?>> resolved = memo.get(methodOrConstructor);
+    if (resolved != null) {
+      return resolved;
+    }
     Type[] genericParameterTypes;
 
     if (methodOrConstructor instanceof Method) {
@@ -286,7 +378,7 @@ public class TypeLiteral<T> {
       throw new IllegalArgumentException("Not a method or a constructor: " + methodOrConstructor);
     }
 
-    return resolveAll(genericParameterTypes);
+    return memoize(memo, methodOrConstructor, resolveAll(genericParameterTypes));
   }
 
   /**
@@ -330,11 +422,16 @@ public class TypeLiteral<T> {
    * @since 2.0
    */
   public TypeLiteral<?> getReturnType(Method method) {
+    ConcurrentMap<Object, TypeLiteral<?>> memo = resolvedTypes();
+    TypeLiteral<?> resolved = memo.get(method);
+    if (resolved != null) {
+      return resolved;
+    }
     checkArgument(
         method.getDeclaringClass().isAssignableFrom(rawType),
         "%s is not defined by a supertype of %s",
         method,
         type);
-    return resolve(method.getGenericReturnType());
+    return memoize(memo, method, resolve(method.getGenericReturnType()));
   }
 }
@@ -92,6 +92,7 @@ public class Annotations {
 
   private static <T extends Annotation> T generateAnnotationImpl(final Class<T> annotationType) {
     final Map<String, Object> members = resolveMembers(annotationType);
+    final Method[] accessibleMembers = accessibleMembers(annotationType);
     return annotationType.cast(
         Proxy.newProxyInstance(
             annotationType.getClassLoader(),
@@ -107,7 +108,7 @@ public class Annotations {
                 } else if (name.equals("hashCode")) {
                   return annotationHashCode(annotationType, members);
                 } else if (name.equals("equals")) {
-                  return annotationEquals(annotationType, members, args[0]);
+                  return annotationEquals(annotationType, accessibleMembers, members, args[0]);
                 } else {
                   return members.get(name);
                 }
@@ -124,14 +125,34 @@ public class Annotations {
     return result.build();
   }
 
+  /**
+   * Returns the members of {@code type}, made accessible where that's allowed so that {@link
+   * #annotationEquals} can compare with annotation types that aren't public, like the JDK's own
+   * annotations do.
+   */
+  private static Method[] accessibleMembers(Class<? extends Annotation> type) {
+    Method[] methods = type.getDeclaredMethods();
+    for (Method method : methods) {
+      try {
+        method.setAccessible(true);
+      } catch (RuntimeException e) {
+        // InaccessibleObjectException or SecurityException; public members still work
+      }
+    }
+    return methods;
+  }
+
   /** Implements {@link Annotation#equals}. */
   private static boolean annotationEquals(
-      Class<? extends Annotation> type, Map<String, Object> members, Object other)
+      Class<? extends Annotation> type,
+      Method[] accessibleMembers,
+      Map<String, Object> members,
+      Object other)
       throws Exception {
     if (!type.isInstance(other)) {
       return false;
     }
-    for (Method method : type.getDeclaredMethods()) {
+    for (Method method : accessibleMembers) {
       String name = method.getName();
       if (!Arrays.deepEquals(
           new Object[] {method.invoke(other)}, new Object[] {members.get(name)})) {
@@ -26,6 +26,7 @@ import com.google.inject.Provider;
 import com.google.inject.TypeLiteral;
 import com.google.inject.binder.AnnotatedBindingBuilder;
 import com.google.inject.binder.ScopedBindingBuilder;
+import com.google.inject.name.Names;
 import com.google.inject.spi.Element;
 import com.google.inject.spi.InjectionPoint;
 import com.google.inject.spi.Message;
@@ -196,6 +197,30 @@ public class BindingBuilder<T> extends AbstractBindingBuilder<T>
     return "BindingBuilder<" + getBinding().getKey().getTypeLiteral() + ">";
   }
 
+  /**
+   * Records an instance binding of {@code @Named(names[i]) String} to {@code values[i]} for each
+   * index, all with the given source. This is equivalent to binding each of them with a new
+   * builder, but without the intermediate untargetted bindings.
+   */
+  public static void bindProperties(
+      Binder binder, List<Element> elements, Object source, String[] names, String[] values) {
+    // String has no injectable members, so its injection points are the same for every value.
+    Set<InjectionPoint> injectionPoints = InjectionPoint.forInstanceMethodsAndFields(String.class);
+    for (int i = 0; i < names.length; i++) {
+      Key<String> key = MoreTypes.canonicalizeKey(Key.get(String.class, Names.named(names[i])));
+      if (values[i] == null) {
+        binder.addError(BINDING_TO_NULL);
+      }
+      elements.add(
+          new InstanceBindingImpl<String>(
+              source,
+              key,
+              Scoping.EAGER_SINGLETON,
+              values[i] != null ? injectionPoints : ImmutableSet.<InjectionPoint>of(),
+              values[i]));
+    }
+  }
+
   private void copyErrorsToBinder(ConfigurationException e) {
     for (Message message : e.getErrorMessages()) {
       binder.addError(message);
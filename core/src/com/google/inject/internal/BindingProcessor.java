@@ -104,8 +104,12 @@ final class BindingProcessor extends AbstractBindingProcessor {
                 initializer.requestInjection(
                     injector, instance, (Binding<T>) binding, source, injectionPoints);
             ConstantFactory<? extends T> factory = new ConstantFactory<>(ref);
+            // An instance that needs no injection is already the singleton, so there's nothing for
+            // the scope to do but lock. This matters for large numbers of constants.
             InternalFactory<? extends T> scopedFactory =
-                Scoping.scope(key, injector, factory, source, scoping);
+                Initializables.isInitialized(ref)
+                    ? factory
+                    : Scoping.scope(key, injector, factory, source, scoping);
             putBinding(
                 new InstanceBindingImpl<T>(
                     injector, key, source, scopedFactory, injectionPoints, instance));
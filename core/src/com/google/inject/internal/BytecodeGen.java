@@ -17,9 +17,13 @@
 package com.google.inject.internal;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.inject.internal.aop.ClassBuilding.buildCircularProxyClass;
 import static com.google.inject.internal.aop.ClassBuilding.buildFastClass;
+import static com.google.inject.internal.aop.ClassBuilding.buildFieldSetters;
+import static com.google.inject.internal.aop.ClassBuilding.canBuildCircularProxyClass;
 import static com.google.inject.internal.aop.ClassBuilding.canEnhance;
 import static com.google.inject.internal.aop.ClassBuilding.canFastInvoke;
+import static com.google.inject.internal.aop.ClassBuilding.canFastSet;
 import static com.google.inject.internal.aop.ClassBuilding.signature;
 
 import com.google.common.cache.CacheBuilder;
@@ -27,15 +31,20 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.MapMaker;
 import com.google.inject.internal.aop.ClassBuilding;
+import com.google.inject.internal.util.Classes;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.BitSet;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Utility methods for circular proxies, faster reflection, and method interception.
@@ -51,25 +60,114 @@ import java.util.function.Function;
  */
 public final class BytecodeGen {
 
+  /**
+   * Superclass of generated circular proxies, so they can be recognized with a type check. This is
+   * a class rather than an interface because checks against a class take constant time, while a
+   * failed check against an interface scans all the interfaces of the checked type.
+   */
+  public abstract static class CircularProxy {
+    private volatile Object delegate;
+    private volatile boolean initialized;
+
+    protected CircularProxy() {}
+
+    /** Returns the delegate of the proxy; called by each generated method before forwarding. */
+    protected static Object delegate(CircularProxy proxy) {
+      Object delegate = proxy.delegate;
+      if (delegate == null) {
+        throw uninitializedCircularProxy(proxy.initialized);
+      }
+      return delegate;
+    }
+
+    final void setDelegate(Object delegate) {
+      this.delegate = delegate;
+      initialized = true;
+    }
+  }
+
+  /** Classes of the JDK proxies used when a circular proxy can't be generated. */
   private static final Map<Class<?>, Boolean> circularProxyTypeCache =
       new MapMaker().weakKeys().makeMap();
 
   /** Returns true if the given object is a circular proxy. */
   public static boolean isCircularProxy(Object object) {
-    return object != null && circularProxyTypeCache.containsKey(object.getClass());
+    return object instanceof CircularProxy
+        || (object instanceof Proxy && circularProxyTypeCache.containsKey(object.getClass()));
   }
 
-  /** Creates a new circular proxy for the given type. */
-  static <T> T newCircularProxy(Class<T> type, InvocationHandler handler) {
-    Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+  /** Creates a new circular proxy for the given type; its delegate must be set before use. */
+  static <T> T newCircularProxy(Class<T> type) {
+    if (InternalFlags.isBytecodeGenEnabled() && canBuildCircularProxyClass(type)) {
+      return type.cast(CIRCULAR_PROXY_FACTORIES.get(type).get());
+    }
+    // don't cache anything on interfaces that can't see Guice, such as JDK interfaces
+    return type.cast(newJdkCircularProxy(type));
+  }
+
+  /** Sets the delegate of a circular proxy created by {@link #newCircularProxy}. */
+  @SuppressWarnings("unchecked")
+  static void setCircularProxyDelegate(Object proxy, Object delegate) {
+    if (proxy instanceof CircularProxy) {
+      ((CircularProxy) proxy).setDelegate(delegate);
+    } else {
+      ((DelegatingInvocationHandler<Object>) Proxy.getInvocationHandler(proxy))
+          .setDelegate(delegate);
+    }
+  }
+
+  /**
+   * Returns the exception thrown when a circular proxy is called before its delegate was set, or
+   * after it was set to null.
+   */
+  static RuntimeException uninitializedCircularProxy(boolean initialized) {
+    if (!initialized) {
+      return new IllegalStateException(
+          "This is a proxy used to support"
+              + " circular references. The object we're"
+              + " proxying is not constructed yet. Please wait until after"
+              + " injection has completed to use this object.");
+    }
+    return new NullPointerException(
+        "This is a proxy used to support"
+            + " circular references. The object we're "
+            + " proxying is initialized to null."
+            + " No methods can be called.");
+  }
+
+  /** Creates circular proxies of a generated class, or JDK proxies if it can't be built. */
+  private static Supplier<Object> circularProxyFactory(Class<?> type) {
+    try {
+      Constructor<?> constructor = buildCircularProxyClass(type).getConstructor();
+      return () -> {
+        try {
+          return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+          throw new IllegalStateException(e);
+        }
+      };
+    } catch (RuntimeException | NoSuchMethodException e) {
+      return () -> newJdkCircularProxy(type);
+    }
+  }
+
+  /** Creates a JDK proxy that forwards calls to a delegate set later. */
+  private static Object newJdkCircularProxy(Class<?> type) {
+    Object proxy =
+        Proxy.newProxyInstance(
+            type.getClassLoader(), new Class<?>[] {type}, new DelegatingInvocationHandler<>());
     circularProxyTypeCache.put(proxy.getClass(), Boolean.TRUE);
-    return type.cast(proxy);
+    return proxy;
   }
 
+  public static final String CIRCULAR_PROXY_BY_GUICE_MARKER = "$$CircularProxyByGuice$$";
+
   public static final String ENHANCER_BY_GUICE_MARKER = "$$EnhancerByGuice$$";
 
   public static final String FASTCLASS_BY_GUICE_MARKER = "$$FastClassByGuice$$";
 
+  public static final String FIELD_SETTERS_BY_GUICE_MARKER = "$$FieldSettersByGuice$$";
+
   /** Builder of enhanced classes. */
   public interface EnhancerBuilder {
     /**
@@ -99,6 +197,25 @@ public final class BytecodeGen {
     Function<String, BiFunction<Object, Object[], Object>> buildEnhancer(BitSet methodIndices);
   }
 
+  /**
+   * Largest number of parameters of a constructor or method whose fast-class also provides a direct
+   * invoker, which takes each argument separately instead of in an array.
+   */
+  public static final int MAX_DIRECT_INVOKER_ARITY = 6;
+
+  /** Invokers provided by a fast-class, mapped from constructor and method signatures. */
+  public interface FastClassInvokers
+      extends Function<String, BiFunction<Object, Object[], Object>> {
+    /**
+     * Returns the direct invoker for the given signature, or {@code null} if it has more than
+     * {@link #MAX_DIRECT_INVOKER_ARITY} parameters.
+     *
+     * <p>The invoker is a handle of type {@code (Object, Object...)Object} with one {@code Object}
+     * for each parameter. Its first argument is the context object, as for array invokers.
+     */
+    MethodHandle directInvoker(String signature);
+  }
+
   /** Create a builder of enhancers for the given class. */
   static EnhancerBuilder enhancerBuilder(Class<?> hostClass) {
     return ENHANCER_BUILDERS.getUnchecked(hostClass);
@@ -128,10 +245,11 @@ public final class BytecodeGen {
    * Returns a fast invoker for the given constructor. The invoker function ignores the first
    * parameter and accepts an array of arguments for the constructor in the second parameter.
    *
-   * <p>Returns {@code null} if the constructor cannot be "fast-invoked" due to visibility issues.
+   * <p>Returns {@code null} if the constructor cannot be "fast-invoked" due to visibility issues,
+   * or because its class could outlive Guice and so mustn't hold a fast-class.
    */
   static BiFunction<Object, Object[], Object> fastConstructor(Constructor<?> constructor) {
-    if (canFastInvoke(constructor)) {
+    if (hasFastClass(constructor)) {
       return fastClass(constructor).apply(signature(constructor));
     }
     return null;
@@ -141,19 +259,71 @@ public final class BytecodeGen {
    * Returns a fast invoker for the given method. The invoker function accepts an instance, which
    * will be {@code null} for static methods, and an array of arguments for the method.
    *
-   * <p>Returns {@code null} if the method cannot be "fast-invoked" due to visibility issues.
+   * <p>Returns {@code null} if the method cannot be "fast-invoked" due to visibility issues, or
+   * because its class could outlive Guice and so mustn't hold a fast-class.
    */
   static BiFunction<Object, Object[], Object> fastMethod(Method method) {
-    if (canFastInvoke(method)) {
+    if (hasFastClass(method)) {
       return fastClass(method).apply(signature(method));
     }
     return null;
   }
 
+  /**
+   * Returns a direct invoker for the given constructor, which ignores the context object. See
+   * {@link FastClassInvokers#directInvoker}.
+   *
+   * <p>Returns {@code null} if the constructor cannot be "fast-invoked" due to visibility issues,
+   * because its class could outlive Guice, or has too many parameters for a direct invoker.
+   */
+  static MethodHandle directConstructor(Constructor<?> constructor) {
+    if (hasFastClass(constructor)) {
+      return fastClass(constructor).directInvoker(signature(constructor));
+    }
+    return null;
+  }
+
+  /**
+   * Returns a direct invoker for the given method, whose context object is the instance, or {@code
+   * null} for static methods. See {@link FastClassInvokers#directInvoker}.
+   *
+   * <p>Returns {@code null} if the method cannot be "fast-invoked" due to visibility issues,
+   * because its class could outlive Guice, or has too many parameters for a direct invoker.
+   */
+  static MethodHandle directMethod(Method method) {
+    if (hasFastClass(method)) {
+      return fastClass(method).directInvoker(signature(method));
+    }
+    return null;
+  }
+
+  /**
+   * Returns a fast setter for the given field. The setter accepts an instance, which is ignored for
+   * static fields, and the value to assign.
+   *
+   * <p>Returns {@code null} if the field cannot be "fast-set" because it is final, due to
+   * visibility issues, or because its class could outlive Guice and so mustn't hold the setters.
+   */
+  static BiConsumer<Object, Object> fastSetter(Field field) {
+    if (canFastSet(field) && Classes.isLoadedWithGuice(field.getDeclaringClass())) {
+      return FIELD_SETTERS.get(field.getDeclaringClass()).apply(field.getName());
+    }
+    return null;
+  }
+
+  /**
+   * Can the given member be invoked through a fast-class? Fast-classes are kept in a {@link
+   * ClassValue} on the declaring class, so classes from a parent or unrelated class loader, such as
+   * JDK classes bound just in time, use reflection instead of keeping Guice's class loader alive.
+   */
+  private static boolean hasFastClass(Executable member) {
+    return canFastInvoke(member) && Classes.isLoadedWithGuice(member.getDeclaringClass());
+  }
+
   /**
    * Prepares the class declaring the given member for fast invocation using bytecode generation.
    */
-  private static Function<String, BiFunction<Object, Object[], Object>> fastClass(Executable member) {
+  private static FastClassInvokers fastClass(Executable member) {
     return FAST_CLASSES.get(member.getDeclaringClass());
   }
 
@@ -168,12 +338,33 @@ public final class BytecodeGen {
           .weakValues()
           .build(CacheLoader.from(ClassBuilding::buildEnhancerBuilder));
 
+  /**
+   * Lazy association between interfaces and the factories of their circular proxies. Only holds
+   * interfaces whose loader can see Guice's classes, so their factories can't pin Guice's loader.
+   */
+  private static final ClassValue<Supplier<Object>> CIRCULAR_PROXY_FACTORIES =
+      new ClassValue<Supplier<Object>>() {
+        @Override
+        protected Supplier<Object> computeValue(Class<?> type) {
+          return circularProxyFactory(type);
+        }
+      };
+
   /** Lazy association between classes and their generated fast-classes. */
-  private static final ClassValue<Function<String, BiFunction<Object, Object[], Object>>> FAST_CLASSES =
-      new ClassValue<Function<String, BiFunction<Object, Object[], Object>>>() {
+  private static final ClassValue<FastClassInvokers> FAST_CLASSES =
+      new ClassValue<FastClassInvokers>() {
         @Override
-        protected Function<String, BiFunction<Object, Object[], Object>> computeValue(Class<?> hostClass) {
+        protected FastClassInvokers computeValue(Class<?> hostClass) {
           return buildFastClass(hostClass);
         }
       };
+
+  /** Lazy association between classes and the generated setters of their fields. */
+  private static final ClassValue<Function<String, BiConsumer<Object, Object>>> FIELD_SETTERS =
+      new ClassValue<Function<String, BiConsumer<Object, Object>>>() {
+        @Override
+        protected Function<String, BiConsumer<Object, Object>> computeValue(Class<?> hostClass) {
+          return buildFieldSetters(hostClass);
+        }
+      };
 }
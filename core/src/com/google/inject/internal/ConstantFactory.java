@@ -34,6 +34,12 @@ final class ConstantFactory<T> implements InternalFactory<T> {
     return initializable.get();
   }
 
+  @Override
+  public T getConstant() {
+    // Instances still waiting for member injection aren't ready to be handed out without get().
+    return Initializables.getIfInitialized(initializable);
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(ConstantFactory.class).add("value", initializable).toString();
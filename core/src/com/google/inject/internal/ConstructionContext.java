@@ -30,7 +30,7 @@ final class ConstructionContext<T> {
   T currentReference;
   boolean constructing;
 
-  List<DelegatingInvocationHandler<T>> invocationHandlers;
+  List<Object> circularProxies;
 
   public T getCurrentReference() {
     return currentReference;
@@ -54,7 +54,7 @@ final class ConstructionContext<T> {
 
   public void finishConstruction() {
     this.constructing = false;
-    invocationHandlers = null;
+    circularProxies = null;
   }
 
   public Object createProxy(InjectorOptions injectorOptions, Class<?> expectedType)
@@ -66,26 +66,25 @@ final class ConstructionContext<T> {
       throw InternalProvisionException.cannotProxyClass(expectedType);
     }
 
-    if (invocationHandlers == null) {
-      invocationHandlers = new ArrayList<>();
+    if (circularProxies == null) {
+      circularProxies = new ArrayList<>();
     }
 
-    DelegatingInvocationHandler<T> invocationHandler = new DelegatingInvocationHandler<>();
-    invocationHandlers.add(invocationHandler);
-
     // TODO: if I create a proxy which implements all the interfaces of
     // the implementation type, I'll be able to get away with one proxy
     // instance (as opposed to one per caller).
-    return BytecodeGen.newCircularProxy(expectedType, invocationHandler);
+    Object proxy = BytecodeGen.newCircularProxy(expectedType);
+    circularProxies.add(proxy);
+    return proxy;
   }
 
   public void setProxyDelegates(T delegate) {
-    if (invocationHandlers != null) {
-      for (DelegatingInvocationHandler<T> handler : invocationHandlers) {
-        handler.setDelegate(delegate);
+    if (circularProxies != null) {
+      for (Object proxy : circularProxies) {
+        BytecodeGen.setCircularProxyDelegate(proxy, delegate);
       }
-      // initialization of each handler can happen no more than once
-      invocationHandlers = null;
+      // initialization of each proxy can happen no more than once
+      circularProxies = null;
     }
   }
 }
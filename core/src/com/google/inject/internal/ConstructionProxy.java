@@ -18,6 +18,7 @@ package com.google.inject.internal;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.spi.InjectionPoint;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -34,6 +35,14 @@ interface ConstructionProxy<T> {
   /** Constructs an instance of {@code T} for the given arguments. */
   T newInstance(Object... arguments) throws InvocationTargetException;
 
+  /**
+   * Returns a direct invoker of the constructor, which takes each argument separately rather than
+   * in an array, or {@code null} if there isn't one.
+   *
+   * @see SingleParameterInjector#invokeDirect
+   */
+  MethodHandle getDirectConstructor();
+
   /** Returns the injection point for this constructor. */
   InjectionPoint getInjectionPoint();
 
@@ -20,6 +20,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.inject.internal.ProvisionListenerStackCallback.ProvisionCallback;
 import com.google.inject.spi.Dependency;
 import com.google.inject.spi.InjectionPoint;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Set;
 
@@ -34,6 +35,7 @@ final class ConstructorInjector<T> {
   private final ImmutableSet<InjectionPoint> injectableMembers;
   private final SingleParameterInjector<?>[] parameterInjectors;
   private final ConstructionProxy<T> constructionProxy;
+  private final MethodHandle directConstructor;
   private final MembersInjectorImpl<T> membersInjector;
 
   ConstructorInjector(
@@ -43,6 +45,7 @@ final class ConstructorInjector<T> {
       MembersInjectorImpl<T> membersInjector) {
     this.injectableMembers = ImmutableSet.copyOf(injectableMembers);
     this.constructionProxy = constructionProxy;
+    this.directConstructor = constructionProxy.getDirectConstructor();
     this.parameterInjectors = parameterInjectors;
     this.membersInjector = membersInjector;
   }
@@ -104,13 +107,22 @@ final class ConstructorInjector<T> {
   }
 
   /** Provisions a new T. */
+  @SuppressWarnings("unchecked") // the direct constructor constructs 'T's
   private T provision(InternalContext context, ConstructionContext<T> constructionContext)
       throws InternalProvisionException {
     try {
       T t;
       try {
-        Object[] parameters = SingleParameterInjector.getAll(context, parameterInjectors);
-        t = constructionProxy.newInstance(parameters);
+        MethodHandle localDirectConstructor = directConstructor;
+        if (localDirectConstructor != null) {
+          t =
+              (T)
+                  SingleParameterInjector.invokeDirect(
+                      context, parameterInjectors, localDirectConstructor, null);
+        } else {
+          Object[] parameters = SingleParameterInjector.getAll(context, parameterInjectors);
+          t = constructionProxy.newInstance(parameters);
+        }
         constructionContext.setProxyDelegates(t);
       } finally {
         constructionContext.finishConstruction();
@@ -26,7 +26,7 @@ import java.util.concurrent.locks.ReentrantLock;
  * @see com.google.inject.internal.CycleDetectingLock.CycleDetectingLockFactory
  * @author timofeyb (Timothy Basanov)
  */
-interface CycleDetectingLock<ID> {
+public interface CycleDetectingLock<ID> {
 
   /**
    * Takes a lock in a blocking fashion in case no potential deadlocks are detected. If the lock was
@@ -56,7 +56,8 @@ interface CycleDetectingLock<ID> {
    * creating interdependent classes and using locks, where no guarantees on the creation order from
    * Guice are provided.
    *
-   * <p>Instances of these locks are not intended to be exposed outside of {@link SingletonScope}.
+   * <p>Instances of these locks are not intended to be exposed outside of {@link SingletonScope}
+   * and {@link com.google.inject.util.ExpiringScope}.
    */
   class CycleDetectingLockFactory<ID> {
 
@@ -107,7 +108,7 @@ interface CycleDetectingLock<ID> {
      *
      * @param userLockId lock id that would be used to report lock cycles if detected
      */
-    CycleDetectingLock<ID> create(ID userLockId) {
+    public CycleDetectingLock<ID> create(ID userLockId) {
       return new ReentrantCycleDetectingLock<ID>(this, userLockId, new ReentrantLock());
     }
 
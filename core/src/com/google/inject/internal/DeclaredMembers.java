@@ -31,17 +31,35 @@ public final class DeclaredMembers {
   private DeclaredMembers() {}
 
   public static Field[] getDeclaredFields(Class<?> type) {
-    Field[] fields = type.getDeclaredFields();
-    Arrays.sort(fields, FIELD_ORDERING);
-    return fields;
+    return DECLARED_FIELDS.get(type).clone();
   }
 
   public static Method[] getDeclaredMethods(Class<?> type) {
-    Method[] methods = type.getDeclaredMethods();
-    Arrays.sort(methods, METHOD_ORDERING);
-    return methods;
+    return DECLARED_METHODS.get(type).clone();
   }
 
+  /** The sorted declared fields of each class, which every injector would otherwise re-sort. */
+  private static final ClassValue<Field[]> DECLARED_FIELDS =
+      new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+          Field[] fields = type.getDeclaredFields();
+          Arrays.sort(fields, FIELD_ORDERING);
+          return fields;
+        }
+      };
+
+  /** The sorted declared methods of each class. */
+  private static final ClassValue<Method[]> DECLARED_METHODS =
+      new ClassValue<Method[]>() {
+        @Override
+        protected Method[] computeValue(Class<?> type) {
+          Method[] methods = type.getDeclaredMethods();
+          Arrays.sort(methods, METHOD_ORDERING);
+          return methods;
+        }
+      };
+
   /**
    * An ordering suitable for comparing two classes if they are loaded by the same classloader
    *
@@ -18,6 +18,7 @@ package com.google.inject.internal;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.spi.InjectionPoint;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -50,7 +51,11 @@ final class DefaultConstructionProxyFactory<T> implements ConstructionProxyFacto
         BiFunction<Object, Object[], Object> fastConstructor =
             BytecodeGen.fastConstructor(constructor);
         if (fastConstructor != null) {
-          return new FastClassProxy<T>(injectionPoint, constructor, fastConstructor);
+          return new FastClassProxy<T>(
+              injectionPoint,
+              constructor,
+              fastConstructor,
+              BytecodeGen.directConstructor(constructor));
         }
       } catch (Exception | LinkageError e) {
         /* fall-through */
@@ -65,14 +70,17 @@ final class DefaultConstructionProxyFactory<T> implements ConstructionProxyFacto
     final InjectionPoint injectionPoint;
     final Constructor<T> constructor;
     final BiFunction<Object, Object[], Object> fastConstructor;
+    final MethodHandle directConstructor;
 
     FastClassProxy(
         InjectionPoint injectionPoint,
         Constructor<T> constructor,
-        BiFunction<Object, Object[], Object> fastConstructor) {
+        BiFunction<Object, Object[], Object> fastConstructor,
+        MethodHandle directConstructor) {
       this.injectionPoint = injectionPoint;
       this.constructor = constructor;
       this.fastConstructor = fastConstructor;
+      this.directConstructor = directConstructor;
     }
 
     @Override
@@ -85,6 +93,11 @@ final class DefaultConstructionProxyFactory<T> implements ConstructionProxyFacto
       }
     }
 
+    @Override
+    public MethodHandle getDirectConstructor() {
+      return directConstructor;
+    }
+
     @Override
     public InjectionPoint getInjectionPoint() {
       return injectionPoint;
@@ -125,6 +138,11 @@ final class DefaultConstructionProxyFactory<T> implements ConstructionProxyFacto
       }
     }
 
+    @Override
+    public MethodHandle getDirectConstructor() {
+      return null;
+    }
+
     @Override
     public InjectionPoint getInjectionPoint() {
       return injectionPoint;
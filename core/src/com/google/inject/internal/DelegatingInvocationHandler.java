@@ -16,7 +16,6 @@
 
 package com.google.inject.internal;
 
-import com.google.common.base.Preconditions;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -31,18 +30,12 @@ class DelegatingInvocationHandler<T> implements InvocationHandler {
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
     try {
       // checking volatile field for synchronization
-      Preconditions.checkState(
-          initialized,
-          "This is a proxy used to support"
-              + " circular references. The object we're"
-              + " proxying is not constructed yet. Please wait until after"
-              + " injection has completed to use this object.");
-      Preconditions.checkNotNull(
-          delegate,
-          "This is a proxy used to support"
-              + " circular references. The object we're "
-              + " proxying is initialized to null."
-              + " No methods can be called.");
+      if (!initialized) {
+        throw BytecodeGen.uninitializedCircularProxy(false);
+      }
+      if (delegate == null) {
+        throw BytecodeGen.uninitializedCircularProxy(true);
+      }
 
       // TODO: method.setAccessible(true); ?
       // this would fix visibility errors when we proxy a
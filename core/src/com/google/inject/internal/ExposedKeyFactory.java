@@ -29,6 +29,9 @@ final class ExposedKeyFactory<T> implements InternalFactory<T>, CreationListener
   private final PrivateElements privateElements;
   private BindingImpl<T> delegate;
 
+  /** The child's instance, once the child's binding always returns it. */
+  private volatile T constant;
+
   ExposedKeyFactory(Key<T> key, PrivateElements privateElements) {
     this.key = key;
     this.privateElements = privateElements;
@@ -53,7 +56,22 @@ final class ExposedKeyFactory<T> implements InternalFactory<T>, CreationListener
   @Override
   public T get(InternalContext context, Dependency<?> dependency, boolean linked)
       throws InternalProvisionException {
+    T local = constant;
+    if (local != null) {
+      return local;
+    }
+    InternalFactory<? extends T> delegateFactory = delegate.getInternalFactory();
     // TODO(lukes): add a source to the thrown exception?
-    return delegate.getInternalFactory().get(context, dependency, linked);
+    local = delegateFactory.get(context, dependency, linked);
+    T delegateConstant = delegateFactory.getConstant();
+    if (delegateConstant != null) {
+      constant = delegateConstant;
+    }
+    return local;
+  }
+
+  @Override
+  public T getConstant() {
+    return constant;
   }
 }
@@ -34,6 +34,9 @@ final class FactoryProxy<T> implements InternalFactory<T>, CreationListener {
 
   private InternalFactory<? extends T> targetFactory;
 
+  /** The target's instance, once the target always returns it. */
+  private volatile T constant;
+
   FactoryProxy(InjectorImpl injector, Key<T> key, Key<? extends T> targetKey, Object source) {
     this.injector = injector;
     this.key = key;
@@ -55,15 +58,31 @@ final class FactoryProxy<T> implements InternalFactory<T>, CreationListener {
   @Override
   public T get(InternalContext context, Dependency<?> dependency, boolean linked)
       throws InternalProvisionException {
+    T local = constant;
+    if (local != null) {
+      return local;
+    }
     Key<? extends T> localTargetKey = targetKey;
+    InternalFactory<? extends T> localTargetFactory = targetFactory;
     context.pushState(localTargetKey, source);
     try {
-      return targetFactory.get(context, dependency, true);
+      local = localTargetFactory.get(context, dependency, true);
     } catch (InternalProvisionException ipe) {
       throw ipe.addSource(localTargetKey);
       } finally {
         context.popState();
     }
+    // Collapse the link once the target is constant, e.g. an instance or a created singleton.
+    T targetConstant = localTargetFactory.getConstant();
+    if (targetConstant != null) {
+      constant = targetConstant;
+    }
+    return local;
+  }
+
+  @Override
+  public T getConstant() {
+    return constant;
   }
 
   @Override
@@ -31,27 +31,43 @@ import java.util.Map;
  */
 public abstract class FailableCache<K, V> {
 
-  private final LoadingCache<K, Object> delegate =
-      CacheBuilder.newBuilder()
-          .build(
-              new CacheLoader<K, Object>() {
-                @Override
-                public Object load(K key) {
-                  Errors errors = new Errors();
-                  V result = null;
-                  try {
-                    result = FailableCache.this.create(key, errors);
-                  } catch (ErrorsException e) {
-                    errors.merge(e.getErrors());
-                  }
-                  return errors.hasErrors() ? errors : result;
-                }
-              });
+  /**
+   * Created on first use, since most injectors, like the many child injectors of a request or
+   * tenant, never look up members or constructor injectors of their own.
+   */
+  private volatile LoadingCache<K, Object> delegate;
+
+  private LoadingCache<K, Object> delegate() {
+    LoadingCache<K, Object> result = delegate;
+    if (result == null) {
+      synchronized (this) {
+        result = delegate;
+        if (result == null) {
+          delegate = result = CacheBuilder.newBuilder().build(new Loader());
+        }
+      }
+    }
+    return result;
+  }
+
+  private final class Loader extends CacheLoader<K, Object> {
+    @Override
+    public Object load(K key) {
+      Errors errors = new Errors();
+      V result = null;
+      try {
+        result = FailableCache.this.create(key, errors);
+      } catch (ErrorsException e) {
+        errors.merge(e.getErrors());
+      }
+      return errors.hasErrors() ? errors : result;
+    }
+  }
 
   protected abstract V create(K key, Errors errors) throws ErrorsException;
 
   public V get(K key, Errors errors) throws ErrorsException {
-    Object resultOrError = delegate.getUnchecked(key);
+    Object resultOrError = delegate().getUnchecked(key);
     if (resultOrError instanceof Errors) {
       errors.merge((Errors) resultOrError);
       throw errors.toException();
@@ -63,13 +79,14 @@ public abstract class FailableCache<K, V> {
   }
 
   boolean remove(K key) {
-    return delegate.asMap().remove(key) != null;
+    LoadingCache<K, Object> cache = delegate;
+    return cache != null && cache.asMap().remove(key) != null;
   }
 
   Map<K, V> asMap() {
     return Maps.transformValues(
         Maps.filterValues(
-            ImmutableMap.copyOf(delegate.asMap()),
+            ImmutableMap.copyOf(delegate().asMap()),
             resultOrError -> !(resultOrError instanceof Errors)),
         resultOrError -> {
           @SuppressWarnings("unchecked") // create returned a non-error result, so this is safe
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map whose keys are all constants of one enum, or all small non-negative integers.
+ * Lookups index an array by the key's ordinal or value instead of hashing it. Iteration follows the
+ * order the keys were given in, like {@link com.google.common.collect.ImmutableMap}.
+ *
+ * <p>The keys are analyzed once into a {@link KeyIndex}, which is shared by every map created for
+ * them, so creating a map only costs a copy of its values.
+ *
+ * <p>Like the {@code ImmutableMap} it stands in for, the map is serializable. It is written as an
+ * {@code ImmutableMap} with the same entries, so the receiving end doesn't depend on this class.
+ */
+final class IndexedKeyMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+  /** Integer keys are only indexed if the array is at most this many times the number of keys. */
+  private static final int MAX_SPARSENESS = 4;
+
+  /** Integer keys below this are always indexed, however few there are. */
+  private static final int MIN_INDEXED_RANGE = 64;
+
+  /** The positions of a fixed list of keys, indexed by ordinal or integer value. */
+  static final class KeyIndex<K> {
+    private final Object[] keys;
+
+    /** The enum class of the keys, or null if the keys are integers. */
+    private final Class<?> enumClass;
+
+    /** Maps ordinal or integer value to the key's position plus one; zero for absent keys. */
+    private final int[] positions;
+
+    private KeyIndex(Object[] keys, Class<?> enumClass, int[] positions) {
+      this.keys = keys;
+      this.enumClass = enumClass;
+      this.positions = positions;
+    }
+
+    /**
+     * Returns an index for {@code keys}, which must be distinct, or null if they aren't all
+     * constants of one enum or small non-negative integers.
+     */
+    static <K> KeyIndex<K> create(List<K> keys) {
+      if (keys.isEmpty()) {
+        return null;
+      }
+      Object first = keys.get(0);
+      Class<?> enumClass = null;
+      int range;
+      if (first instanceof Enum) {
+        enumClass = ((Enum<?>) first).getDeclaringClass();
+        range = enumClass.getEnumConstants().length;
+      } else if (first instanceof Integer) {
+        range = 0;
+        for (K key : keys) {
+          if (!(key instanceof Integer) || (Integer) key < 0) {
+            return null;
+          }
+          range = Math.max(range, (Integer) key + 1);
+        }
+        if (range > Math.max(MIN_INDEXED_RANGE, keys.size() * MAX_SPARSENESS)) {
+          return null;
+        }
+      } else {
+        return null;
+      }
+
+      int[] positions = new int[range];
+      for (int i = 0; i < keys.size(); i++) {
+        Object key = keys.get(i);
+        if (enumClass != null
+            && !(key instanceof Enum && ((Enum<?>) key).getDeclaringClass() == enumClass)) {
+          return null;
+        }
+        positions[indexOf(key)] = i + 1;
+      }
+      return new KeyIndex<K>(keys.toArray(), enumClass, positions);
+    }
+
+    private static int indexOf(Object key) {
+      return key instanceof Enum ? ((Enum<?>) key).ordinal() : (Integer) key;
+    }
+
+    /** Returns the position of {@code key}, or -1 if it isn't one of the keys. */
+    int positionOf(Object key) {
+      int index;
+      if (enumClass != null) {
+        if (!(key instanceof Enum) || ((Enum<?>) key).getDeclaringClass() != enumClass) {
+          return -1;
+        }
+        index = ((Enum<?>) key).ordinal();
+      } else {
+        if (!(key instanceof Integer)) {
+          return -1;
+        }
+        index = (Integer) key;
+        if (index < 0 || index >= positions.length) {
+          return -1;
+        }
+      }
+      return positions[index] - 1;
+    }
+
+    int size() {
+      return keys.length;
+    }
+  }
+
+  private final KeyIndex<K> index;
+  private final Object[] values;
+  private transient Set<Map.Entry<K, V>> entrySet;
+
+  /**
+   * Creates a map of the index's keys to {@code values}, which is parallel to the keys and must not
+   * be modified afterwards.
+   */
+  IndexedKeyMap(KeyIndex<K> index, Object[] values) {
+    if (values.length != index.size()) {
+      throw new IllegalArgumentException(
+          "Expected " + index.size() + " values but got " + Arrays.toString(values));
+    }
+    this.index = index;
+    this.values = values;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    int position = index.positionOf(key);
+    return position < 0 ? null : (V) values[position];
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return index.positionOf(key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    Set<Map.Entry<K, V>> local = entrySet;
+    if (local == null) {
+      local = entrySet = new EntrySet();
+    }
+    return local;
+  }
+
+  private Object writeReplace() throws ObjectStreamException {
+    return ImmutableMap.copyOf(this);
+  }
+
+  private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+    throw new InvalidObjectException("Serialized as an ImmutableMap");
+  }
+
+  private static final long serialVersionUID = 0;
+
+  private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+      return new Iterator<Map.Entry<K, V>>() {
+        int position;
+
+        @Override
+        public boolean hasNext() {
+          return position < values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          Map.Entry<K, V> entry =
+              Maps.immutableEntry((K) index.keys[position], (V) values[position]);
+          position++;
+          return entry;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+}
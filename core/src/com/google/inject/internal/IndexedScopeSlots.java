@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Sets;
+import com.google.inject.IndexedScope;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hands out the slots of an {@link IndexedScope}. Every slot is leased to an owner, usually the
+ * injector whose binding it was assigned to, and becomes free again once that owner has been
+ * garbage collected. New slots are always the lowest free ones, so the slots of a scope stay
+ * bounded by the bindings of the injectors that are still in use, however many injectors come
+ * and go.
+ */
+public final class IndexedScopeSlots {
+
+  /** Weakly keyed so that scopes don't outlive the injectors that use them. */
+  private static final ConcurrentMap<IndexedScope, IndexedScopeSlots> SLOTS_BY_SCOPE =
+      new MapMaker().weakKeys().makeMap();
+
+  /**
+   * Returns the lowest free slot of {@code scope}, which stays taken until {@code owner} has been
+   * garbage collected.
+   */
+  public static int lease(IndexedScope scope, Object owner) {
+    IndexedScopeSlots slots = SLOTS_BY_SCOPE.get(scope);
+    if (slots == null) {
+      IndexedScopeSlots newSlots = new IndexedScopeSlots();
+      slots = SLOTS_BY_SCOPE.putIfAbsent(scope, newSlots);
+      if (slots == null) {
+        slots = newSlots;
+      }
+    }
+    return slots.leaseTo(owner);
+  }
+
+  private final BitSet taken = new BitSet();
+
+  private final ReferenceQueue<Object> collectedOwners = new ReferenceQueue<>();
+
+  /** The lease of each owner, weakly keyed by identity. */
+  private final Map<Object, Lease> leasesByOwner = new MapMaker().weakKeys().makeMap();
+
+  /** Keeps the leases reachable until they have been enqueued and their slots freed. */
+  private final Set<Lease> leases = Sets.newIdentityHashSet();
+
+  private IndexedScopeSlots() {}
+
+  private synchronized int leaseTo(Object owner) {
+    for (Reference<?> collected; (collected = collectedOwners.poll()) != null; ) {
+      Lease lease = (Lease) collected;
+      leases.remove(lease);
+      taken.andNot(lease.slots);
+    }
+
+    Lease lease = leasesByOwner.get(owner);
+    if (lease == null) {
+      lease = new Lease(owner, collectedOwners);
+      leasesByOwner.put(owner, lease);
+      leases.add(lease);
+    }
+    int slot = taken.nextClearBit(0);
+    taken.set(slot);
+    lease.slots.set(slot);
+    return slot;
+  }
+
+  /** The slots leased to one owner. */
+  private static final class Lease extends WeakReference<Object> {
+    final BitSet slots = new BitSet();
+
+    Lease(Object owner, ReferenceQueue<Object> queue) {
+      super(owner, queue);
+    }
+  }
+}
@@ -21,16 +21,35 @@ final class Initializables {
 
   /** Returns an initializable for an instance that requires no initialization. */
   static <T> Initializable<T> of(final T instance) {
-    return new Initializable<T>() {
-      @Override
-      public T get() {
-        return instance;
-      }
-
-      @Override
-      public String toString() {
-        return String.valueOf(instance);
-      }
-    };
+    return new Initialized<T>(instance);
+  }
+
+  /** Returns true if {@code initializable} was returned by {@link #of}. */
+  static boolean isInitialized(Initializable<?> initializable) {
+    return initializable instanceof Initialized;
+  }
+
+  /** Returns the instance of an initializable returned by {@link #of}, or null for others. */
+  @SuppressWarnings("unchecked")
+  static <T> T getIfInitialized(Initializable<T> initializable) {
+    return initializable instanceof Initialized ? ((Initialized<T>) initializable).instance : null;
+  }
+
+  private static final class Initialized<T> implements Initializable<T> {
+    private final T instance;
+
+    Initialized(T instance) {
+      this.instance = instance;
+    }
+
+    @Override
+    public T get() {
+      return instance;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(instance);
+    }
   }
 }
@@ -19,6 +19,7 @@ package com.google.inject.internal;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -43,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A container that stores an injector's binding data. This excludes JIT binding data, which is
@@ -65,6 +67,12 @@ class InjectorBindingData {
   private final Set<MembersInjectorLookup<?>> membersInjectorLookups = Sets.newLinkedHashSet();
   private final Set<InjectionRequest<?>> injectionRequests = Sets.newLinkedHashSet();
   private final List<TypeConverterBinding> converters = Lists.newArrayList();
+  // The class converted by each converter that handles exactly one class, like the built-in
+  // primitive converters. Those are matched by comparing classes rather than by their matchers.
+  private final Map<TypeConverterBinding, Class<?>> classConverters = Maps.newIdentityHashMap();
+  // The converters of this and parent levels that match each type converted so far, in order.
+  private final Map<TypeLiteral<?>, ImmutableList<TypeConverterBinding>> convertersByType =
+      new ConcurrentHashMap<>();
   private final List<MethodAspect> methodAspects = Lists.newArrayList();
   private final List<TypeListenerBinding> typeListenerBindings = Lists.newArrayList();
   private final List<ProvisionListenerBinding> provisionListenerBindings = Lists.newArrayList();
@@ -152,24 +160,42 @@ class InjectorBindingData {
 
   public void addConverter(TypeConverterBinding typeConverterBinding) {
     converters.add(typeConverterBinding);
+    convertersByType.clear();
+  }
+
+  /** Adds a converter whose matcher only matches {@code convertedClass}. */
+  public void addClassConverter(
+      Class<?> convertedClass, TypeConverterBinding typeConverterBinding) {
+    classConverters.put(typeConverterBinding, convertedClass);
+    addConverter(typeConverterBinding);
   }
 
   public TypeConverterBinding getConverter(
       String stringValue, TypeLiteral<?> type, Errors errors, Object source) {
-    TypeConverterBinding matchingConverter = null;
+    ImmutableList<TypeConverterBinding> matchingConverters =
+        convertersByType.computeIfAbsent(type, this::findConverters);
+    for (int i = 1; i < matchingConverters.size(); i++) {
+      errors.ambiguousTypeConversion(
+          stringValue, source, type, matchingConverters.get(i - 1), matchingConverters.get(i));
+    }
+    return matchingConverters.isEmpty() ? null : Iterables.getLast(matchingConverters);
+  }
+
+  private ImmutableList<TypeConverterBinding> findConverters(TypeLiteral<?> type) {
+    ImmutableList.Builder<TypeConverterBinding> matchingConverters = ImmutableList.builder();
     InjectorBindingData b = this;
     while (b != null) {
       for (TypeConverterBinding converter : b.getConvertersThisLevel()) {
-        if (converter.getTypeMatcher().matches(type)) {
-          if (matchingConverter != null) {
-            errors.ambiguousTypeConversion(stringValue, source, type, matchingConverter, converter);
-          }
-          matchingConverter = converter;
+        Class<?> convertedClass = b.classConverters.get(converter);
+        if (convertedClass != null
+            ? convertedClass == type.getType()
+            : converter.getTypeMatcher().matches(type)) {
+          matchingConverters.add(converter);
         }
       }
       b = b.parent().orElse(null);
     }
-    return matchingConverter;
+    return matchingConverters.build();
   }
 
   public void addMethodAspect(MethodAspect methodAspect) {
@@ -178,8 +204,12 @@ class InjectorBindingData {
 
   public ImmutableList<MethodAspect> getMethodAspects() {
     if (parent.isPresent()) {
+      ImmutableList<MethodAspect> inherited = parent.get().getMethodAspects();
+      if (methodAspects.isEmpty()) {
+        return inherited;
+      }
       return new ImmutableList.Builder<MethodAspect>()
-          .addAll(parent.get().getMethodAspects())
+          .addAll(inherited)
           .addAll(methodAspects)
           .build();
     }
@@ -192,8 +222,12 @@ class InjectorBindingData {
 
   public ImmutableList<TypeListenerBinding> getTypeListenerBindings() {
     if (parent.isPresent()) {
+      ImmutableList<TypeListenerBinding> inherited = parent.get().getTypeListenerBindings();
+      if (typeListenerBindings.isEmpty()) {
+        return inherited;
+      }
       return new ImmutableList.Builder<TypeListenerBinding>()
-          .addAll(parent.get().getTypeListenerBindings())
+          .addAll(inherited)
           .addAll(typeListenerBindings)
           .build();
     }
@@ -210,8 +244,13 @@ class InjectorBindingData {
 
   public ImmutableList<ProvisionListenerBinding> getProvisionListenerBindings() {
     if (parent.isPresent()) {
+      ImmutableList<ProvisionListenerBinding> inherited =
+          parent.get().getProvisionListenerBindings();
+      if (provisionListenerBindings.isEmpty()) {
+        return inherited;
+      }
       return new ImmutableList.Builder<ProvisionListenerBinding>()
-          .addAll(parent.get().getProvisionListenerBindings())
+          .addAll(inherited)
           .addAll(provisionListenerBindings)
           .build();
     }
@@ -228,8 +267,13 @@ class InjectorBindingData {
 
   public ImmutableList<ModuleAnnotatedMethodScannerBinding> getScannerBindings() {
     if (parent.isPresent()) {
+      ImmutableList<ModuleAnnotatedMethodScannerBinding> inherited =
+          parent.get().getScannerBindings();
+      if (scannerBindings.isEmpty()) {
+        return inherited;
+      }
       return new ImmutableList.Builder<ModuleAnnotatedMethodScannerBinding>()
-          .addAll(parent.get().getScannerBindings())
+          .addAll(inherited)
           .addAll(scannerBindings)
           .build();
     }
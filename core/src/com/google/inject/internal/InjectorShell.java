@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkState;
 import static com.google.inject.Scopes.SINGLETON;
 import static com.google.inject.internal.GuiceInternal.GUICE_INTERNAL;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.inject.Binder;
@@ -37,6 +38,8 @@ import com.google.inject.spi.Dependency;
 import com.google.inject.spi.Element;
 import com.google.inject.spi.Elements;
 import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.LinkedKeyBinding;
 import com.google.inject.spi.ModuleAnnotatedMethodScannerBinding;
 import com.google.inject.spi.PrivateElements;
 import com.google.inject.spi.ProvisionListenerBinding;
@@ -93,6 +96,9 @@ final class InjectorShell {
     /** null unless this exists in a {@link Binder#newPrivateBinder private environment} */
     private PrivateElementsImpl privateElements;
 
+    /** true if {@link #build} took the path for children with only instance and linked bindings */
+    private boolean instanceAndLinkedBindingsOnly;
+
     Builder stage(Stage stage) {
       this.stage = stage;
       return this;
@@ -123,6 +129,15 @@ final class InjectorShell {
       return options.stage;
     }
 
+    /**
+     * Returns true if the built injector is a child whose elements are all instance bindings of
+     * instances without injection points, or linked bindings. Such an injector has no injection
+     * requests, lookups or private environments to validate after it is built.
+     */
+    boolean isInstanceAndLinkedBindingsOnly() {
+      return instanceAndLinkedBindingsOnly;
+    }
+
     /** Synchronize on this before calling {@link #build}. */
     Object lock() {
       // Lazily initializes bindingData and jitBindingData, if they were not already
@@ -167,6 +182,22 @@ final class InjectorShell {
         elements.addAll(BindingSourceRestriction.check(GUICE_INTERNAL, elements));
       }
 
+      // Child injectors created per request or tenant typically only add a few instance and linked
+      // bindings, which none of the other processors handle.
+      if (parent != null && privateElements == null && hasOnlyInstanceAndLinkedBindings()) {
+        instanceAndLinkedBindingsOnly = true;
+        InjectorImpl injector = new InjectorImpl(parent, bindingData, jitBindingData, options);
+        createListenerStores(injector);
+        stopwatch.resetAndLog("Module execution");
+
+        bindStage(injector, stage);
+        bindInjector(injector);
+        bindLogger(injector);
+        new BindingProcessor(errors, initializer, processedBindingData).process(injector, elements);
+        stopwatch.resetAndLog("Binding creation");
+        return ImmutableList.of(new InjectorShell(elements, injector));
+      }
+
       // Look for injector-changing options
       InjectorOptionsProcessor optionsProcessor = new InjectorOptionsProcessor(errors);
       optionsProcessor.process(null, elements);
@@ -190,13 +221,7 @@ final class InjectorShell {
       stopwatch.resetAndLog("Interceptors creation");
 
       new ListenerBindingProcessor(errors).process(injector, elements);
-      List<TypeListenerBinding> typeListenerBindings =
-          injector.getBindingData().getTypeListenerBindings();
-      injector.membersInjectorStore = new MembersInjectorStore(injector, typeListenerBindings);
-      List<ProvisionListenerBinding> provisionListenerBindings =
-          injector.getBindingData().getProvisionListenerBindings();
-      injector.provisionListenerStore =
-          new ProvisionListenerCallbackStore(provisionListenerBindings);
+      createListenerStores(injector);
       stopwatch.resetAndLog("TypeListeners & ProvisionListener creation");
 
       new ScopeBindingProcessor(errors).process(injector, elements);
@@ -233,6 +258,28 @@ final class InjectorShell {
       return injectorShells;
     }
 
+    private boolean hasOnlyInstanceAndLinkedBindings() {
+      for (Element element : elements) {
+        if (element instanceof InstanceBinding) {
+          if (!((InstanceBinding<?>) element).getInjectionPoints().isEmpty()) {
+            return false;
+          }
+        } else if (!(element instanceof LinkedKeyBinding)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static void createListenerStores(InjectorImpl injector) {
+      List<TypeListenerBinding> typeListenerBindings =
+          injector.getBindingData().getTypeListenerBindings();
+      injector.membersInjectorStore = new MembersInjectorStore(injector, typeListenerBindings);
+      List<ProvisionListenerBinding> provisionListenerBindings =
+          injector.getBindingData().getProvisionListenerBindings();
+      injector.provisionListenerStore =
+          new ProvisionListenerCallbackStore(provisionListenerBindings);
+    }
   }
 
   /**
@@ -18,10 +18,10 @@ package com.google.inject.internal;
 
 import static com.google.inject.internal.BytecodeGen.ENHANCER_BY_GUICE_MARKER;
 
-import com.google.common.collect.Lists;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
 import org.aopalliance.intercept.MethodInterceptor;
@@ -37,6 +37,11 @@ import org.aopalliance.intercept.MethodInvocation;
 final class InterceptorStackCallback implements InvocationHandler {
   private static final String GUICE_INTERNAL_AOP_PACKAGE = "com.google.inject.internal.aop";
 
+  /** Shared by calls to methods without parameters, for which enhancers pass null arguments. */
+  private static final Object[] NO_ARGUMENTS = {};
+
+  private static final boolean PRUNE_STACK_TRACES = InternalFlags.isStackTracePruningEnabled();
+
   final Method method;
   final MethodInterceptor[] interceptors;
   final BiFunction<Object, Object[], Object> superInvoker;
@@ -52,34 +57,70 @@ final class InterceptorStackCallback implements InvocationHandler {
 
   @Override
   public Object invoke(Object proxy, Method unused, Object[] arguments) throws Throwable {
-    return new InterceptedMethodInvocation(proxy, arguments, 0).proceed();
+    if (interceptors.length == 0) {
+      return superInvoker.apply(proxy, arguments);
+    }
+    InterceptedMethodInvocation invocation = new InterceptedMethodInvocation(proxy, arguments);
+    try {
+      return interceptors[0].invoke(invocation);
+    } catch (Throwable t) {
+      invocation.pruneStacktrace(t);
+      throw t;
+    }
   }
 
+  /**
+   * The invocation passed to one interceptor of a call. Its position in the stack is fixed, so an
+   * interceptor may proceed more than once, or keep the invocation and proceed after it has
+   * returned, possibly on another thread. For the common stack of a single interceptor, the one
+   * invocation created per call is the only one; deeper stacks create one per further level.
+   */
   private class InterceptedMethodInvocation implements MethodInvocation {
 
     final Object proxy;
     final Object[] arguments;
+    /** The interceptor to call next, or {@code interceptors.length} to call the method itself. */
     final int interceptorIndex;
+    /** The invocation passed to the first interceptor, which prunes for the whole stack. */
+    final InterceptedMethodInvocation first;
+    /** The last throwable pruned, which every level of the stack it propagates through sees. */
+    Throwable pruned;
 
-    public InterceptedMethodInvocation(Object proxy, Object[] arguments, int interceptorIndex) {
+    InterceptedMethodInvocation(Object proxy, Object[] arguments) {
       this.proxy = proxy;
       this.arguments = arguments;
-      this.interceptorIndex = interceptorIndex;
+      this.interceptorIndex = 1;
+      this.first = this;
+    }
+
+    private InterceptedMethodInvocation(InterceptedMethodInvocation previous) {
+      this.proxy = previous.proxy;
+      this.arguments = previous.arguments;
+      this.interceptorIndex = previous.interceptorIndex + 1;
+      this.first = previous.first;
     }
 
     @Override
     public Object proceed() throws Throwable {
       try {
-        return interceptorIndex == interceptors.length
-            ? superInvoker.apply(proxy, arguments)
-            : interceptors[interceptorIndex].invoke(
-                new InterceptedMethodInvocation(proxy, arguments, interceptorIndex + 1));
+        if (interceptorIndex == interceptors.length) {
+          return superInvoker.apply(proxy, arguments);
+        }
+        return interceptors[interceptorIndex].invoke(new InterceptedMethodInvocation(this));
       } catch (Throwable t) {
-        pruneStacktrace(t);
+        first.pruneStacktrace(t);
         throw t;
       }
     }
 
+    /** Prunes {@code throwable} unless it has already been pruned by a deeper level. */
+    void pruneStacktrace(Throwable throwable) {
+      if (PRUNE_STACK_TRACES && throwable != pruned) {
+        InterceptorStackCallback.pruneStacktrace(throwable, pruned);
+        pruned = throwable;
+      }
+    }
+
     @Override
     public Method getMethod() {
       return method;
@@ -87,7 +128,7 @@ final class InterceptorStackCallback implements InvocationHandler {
 
     @Override
     public Object[] getArguments() {
-      return arguments;
+      return arguments != null ? arguments : NO_ARGUMENTS;
     }
 
     @Override
@@ -103,21 +144,24 @@ final class InterceptorStackCallback implements InvocationHandler {
 
   /**
    * Removes stacktrace elements related to AOP internal mechanics from the throwable's stack trace
-   * and any causes it may have.
+   * and any causes it may have, stopping at {@code alreadyPruned}.
    */
-  private void pruneStacktrace(Throwable throwable) {
-    for (Throwable t = throwable; t != null; t = t.getCause()) {
+  private static void pruneStacktrace(Throwable throwable, Throwable alreadyPruned) {
+    for (Throwable t = throwable; t != null && t != alreadyPruned; t = t.getCause()) {
       StackTraceElement[] stackTrace = t.getStackTrace();
-      List<StackTraceElement> pruned = Lists.newArrayList();
+      StackTraceElement[] pruned = new StackTraceElement[stackTrace.length];
+      int prunedLength = 0;
       for (StackTraceElement element : stackTrace) {
         String className = element.getClassName();
         if (!className.startsWith(InterceptorStackCallback.class.getName())
             && !className.startsWith(GUICE_INTERNAL_AOP_PACKAGE)
             && !className.contains(ENHANCER_BY_GUICE_MARKER)) {
-          pruned.add(element);
+          pruned[prunedLength++] = element;
         }
       }
-      t.setStackTrace(pruned.toArray(new StackTraceElement[pruned.size()]));
+      if (prunedLength < stackTrace.length) {
+        t.setStackTrace(Arrays.copyOf(pruned, prunedLength));
+      }
     }
   }
 }
@@ -28,10 +28,19 @@ import java.util.Map;
  */
 final class InternalContext implements AutoCloseable {
 
+  private static final Object[] EMPTY_STACK = new Object[0];
+
+  /** Initial size of the dependency stack, enough for 8 dependency & source pairs. */
+  private static final int INITIAL_STACK_SIZE = 16;
+
   private final InjectorOptions options;
 
-  private final Map<Object, ConstructionContext<?>> constructionContexts =
-      new IdentityHashMap<Object, ConstructionContext<?>>();
+  /**
+   * Lazily created, since many contexts (e.g. those that only look up singletons or instances)
+   * never construct anything. This matters when contexts are short lived, for example when every
+   * provision happens on a fresh (virtual) thread.
+   */
+  private Map<Object, ConstructionContext<?>> constructionContexts;
 
   /** Keeps track of the type that is currently being requested for injection. */
   private Dependency<?> dependency;
@@ -42,8 +51,10 @@ final class InternalContext implements AutoCloseable {
    * <p>This is a pairwise combination of dependencies and sources, with dependencies or keys on
    * even indices, and sources on odd indices. This structure is to avoid the memory overhead of
    * DependencyAndSource objects, which can add to several tens of megabytes in large applications.
+   *
+   * <p>Starts out empty and is allocated on the first push.
    */
-  private Object[] dependencyStack = new Object[16];
+  private Object[] dependencyStack = EMPTY_STACK;
 
   private int dependencyStackSize = 0;
 
@@ -89,11 +100,15 @@ final class InternalContext implements AutoCloseable {
 
   @SuppressWarnings("unchecked")
   <T> ConstructionContext<T> getConstructionContext(Object key) {
+    Map<Object, ConstructionContext<?>> localContexts = constructionContexts;
+    if (localContexts == null) {
+      localContexts = constructionContexts = new IdentityHashMap<>(4);
+    }
     ConstructionContext<T> constructionContext =
-        (ConstructionContext<T>) constructionContexts.get(key);
+        (ConstructionContext<T>) localContexts.get(key);
     if (constructionContext == null) {
       constructionContext = new ConstructionContext<>();
-      constructionContexts.put(key, constructionContext);
+      localContexts.put(key, constructionContext);
     }
     return constructionContext;
   }
@@ -125,8 +140,11 @@ final class InternalContext implements AutoCloseable {
     int localSize = dependencyStackSize;
     Object[] localStack = dependencyStack;
     if (localStack.length < localSize + 2) {
-      localStack = dependencyStack =
-        java.util.Arrays.copyOf(localStack, (localStack.length * 3) / 2 + 2);
+      localStack =
+          dependencyStack =
+              localStack.length == 0
+                  ? new Object[INITIAL_STACK_SIZE]
+                  : java.util.Arrays.copyOf(localStack, (localStack.length * 3) / 2 + 2);
     }
     localStack[localSize++] = dependencyOrKey;
     localStack[localSize++] = source;
@@ -35,4 +35,14 @@ interface InternalFactory<T> {
    */
   T get(InternalContext context, Dependency<?> dependency, boolean linked)
       throws InternalProvisionException;
+
+  /**
+   * Returns the instance this factory will return from every future call to {@link #get}, or null
+   * if that isn't known (yet). Factories that link to another binding use this to stop delegating
+   * once their target has settled on an instance, such as an instance binding or a singleton that
+   * has been created.
+   */
+  default T getConstant() {
+    return null;
+  }
 }
@@ -27,18 +27,38 @@ final class InternalFactoryToProviderAdapter<T> implements InternalFactory<T> {
   private final Provider<? extends T> provider;
   private final Object source;
 
+  /** True if {@link #provider} returns the same instance once it has created one. */
+  private final boolean singleton;
+
+  /** The instance of a singleton {@link #provider}, once it is created. */
+  private volatile T constant;
+
   public InternalFactoryToProviderAdapter(Provider<? extends T> provider, Object source) {
+    this(provider, source, false);
+  }
+
+  InternalFactoryToProviderAdapter(
+      Provider<? extends T> provider, Object source, boolean singleton) {
     this.provider = checkNotNull(provider, "provider");
     this.source = checkNotNull(source, "source");
+    this.singleton = singleton;
   }
 
   @Override
   public T get(InternalContext context, Dependency<?> dependency, boolean linked)
       throws InternalProvisionException {
+    T local = constant;
+    if (local != null) {
+      return local;
+    }
     try {
       T t = provider.get();
-      if (t == null && !dependency.isNullable()) {
-        InternalProvisionException.onNullInjectedIntoNonNullableDependency(source, dependency);
+      if (t == null) {
+        if (!dependency.isNullable()) {
+          InternalProvisionException.onNullInjectedIntoNonNullableDependency(source, dependency);
+        }
+      } else if (singleton && !BytecodeGen.isCircularProxy(t)) {
+        constant = t;
       }
       return t;
     } catch (RuntimeException userException) {
@@ -46,6 +66,11 @@ final class InternalFactoryToProviderAdapter<T> implements InternalFactory<T> {
     }
   }
 
+  @Override
+  public T getConstant() {
+    return constant;
+  }
+
   @Override
   public String toString() {
     return provider.toString();
@@ -44,6 +44,12 @@ public final class InternalFlags {
   private static final ColorizeOption COLORIZE_OPTION =
       getSystemOption("guice_colorize_error_messages", ColorizeOption.OFF);
 
+  private static final KeyInterningOption KEY_INTERNING_OPTION =
+      getSystemOption("guice_key_interning", KeyInterningOption.DISABLED);
+
+  private static final StackTracePruningOption STACK_TRACE_PRUNING_OPTION =
+      getSystemOption("guice_stack_trace_pruning", StackTracePruningOption.ENABLED);
+
   /** The options for Guice stack trace collection. */
   public enum IncludeStackTraceOption {
     /** No stack trace collection */
@@ -59,6 +65,8 @@ public final class InternalFlags {
     /**
      * Define fast/enhanced types in the same class loader as their original type, never creates
      * class loaders. Uses Unsafe.defineAnonymousClass to gain access to existing class loaders.
+     * Where Unsafe is not available, falls back to Lookup.defineHiddenClass (Java 15+) like {@link
+     * #HIDDEN}, which doesn't create class loaders either.
      */
     OFF,
 
@@ -81,7 +89,16 @@ public final class InternalFlags {
      *
      * <p>Note: with this option you cannot intercept package-private methods.
      */
-    CHILD
+    CHILD,
+
+    /**
+     * Define fast/enhanced types with Lookup.defineHiddenClass (Java 15+), never creates class
+     * loaders. Hidden classes are unloaded as soon as they are no longer used. Types whose class
+     * loader is not Guice's get a regular class in their package defined with Lookup.defineClass.
+     *
+     * <p>Note: with this option you cannot look up fast/enhanced types by name or mock/spy them.
+     */
+    HIDDEN
   }
 
   /** Options for handling nullable parameters used in provides methods. */
@@ -119,6 +136,32 @@ public final class InternalFlags {
     ENABLED,
   }
 
+  /**
+   * Options for controlling whether Guice interns the keys and type literals it retains. When
+   * interning is enabled, equal keys held by bindings, injection points and dependencies share one
+   * weakly referenced instance, which saves memory in injectors with many bindings and lets most
+   * key comparisons succeed on identity.
+   */
+  public enum KeyInterningOption {
+    /** Keys and type literals are not interned. (Default) */
+    DISABLED,
+    /** Keys and type literals are interned. */
+    ENABLED,
+  }
+
+  /**
+   * Options for controlling whether Guice removes its own frames from the stack traces of
+   * exceptions thrown through method interceptors and servlet filter chains. Pruning makes those
+   * stack traces easier to read, but costs time for every exception that passes through, which
+   * adds up for applications that use exceptions for control flow.
+   */
+  public enum StackTracePruningOption {
+    /** Guice frames are not removed. */
+    DISABLED,
+    /** Guice frames are removed. (Default) */
+    ENABLED,
+  }
+
   /** Options for enable or disable the new experimental error messages. */
   public enum ExperimentalErrorMessagesOption {
     DISABLED,
@@ -165,6 +208,14 @@ public final class InternalFlags {
     return BYTECODE_GEN_OPTION == BytecodeGenOption.ENABLED;
   }
 
+  public static boolean isKeyInterningEnabled() {
+    return KEY_INTERNING_OPTION == KeyInterningOption.ENABLED;
+  }
+
+  public static boolean isStackTracePruningEnabled() {
+    return STACK_TRACE_PRUNING_OPTION == StackTracePruningOption.ENABLED;
+  }
+
   public static boolean enableExperimentalErrorMessages() {
     return false;
   }
@@ -107,7 +107,11 @@ public final class InternalInjectorCreator {
       shells = shellBuilder.build(initializer, processedBindingData, stopwatch, errors);
       stopwatch.resetAndLog("Injector construction");
 
-      initializeStatically();
+      if (shellBuilder.isInstanceAndLinkedBindingsOnly()) {
+        initializeInstanceAndLinkedBindings();
+      } else {
+        initializeStatically();
+      }
     }
 
     injectDynamically();
@@ -163,6 +167,28 @@ public final class InternalInjectorCreator {
     errors.throwCreationExceptionIfErrorsExist();
   }
 
+  /**
+   * Initializes a child injector that only has instance and linked bindings. Those have no
+   * injection requests or lookups of their own, so this only links the bindings to their targets,
+   * which bans their keys in the parent and creates the just-in-time bindings they link to.
+   */
+  private void initializeInstanceAndLinkedBindings() {
+    InjectorImpl injector = shells.get(0).getInjector();
+    processedBindingData.initializeBindings();
+    injector.getBindingData().indexBindingsByType();
+    processedBindingData.runCreationListeners(errors);
+    // instances only need injecting here if the parent has listeners for them
+    initializer.validateOustandingInjections(errors);
+    ((DeferredLookups) injector.lookups).initialize(errors);
+    processedBindingData.initializeDelayedBindings();
+    stopwatch.resetAndLog("Binding initialization");
+
+    if (!shells.get(0).getElements().isEmpty()) {
+      throw new AssertionError("Failed to execute " + shells.get(0).getElements());
+    }
+    errors.throwCreationExceptionIfErrorsExist();
+  }
+
   /** Returns the injector being constructed. This is not necessarily the root injector. */
   private Injector primaryInjector() {
     return shells.get(0).getInjector();
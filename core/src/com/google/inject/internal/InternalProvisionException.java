@@ -19,6 +19,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
 import com.google.inject.Guice;
 import com.google.inject.Key;
 import com.google.inject.MembersInjector;
@@ -36,7 +37,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -65,8 +65,14 @@ import java.util.logging.Logger;
  */
 public final class InternalProvisionException extends Exception {
   private static final Logger logger = Logger.getLogger(Guice.class.getName());
+
+  /**
+   * Dependencies that null has been injected into. Weakly keyed, so that the classes of injectors
+   * that are no longer used can be unloaded; injection points hold on to their dependencies, so
+   * each is still warned about once.
+   */
   private static final Set<Dependency<?>> warnedDependencies =
-      Collections.newSetFromMap(new ConcurrentHashMap<Dependency<?>, Boolean>());
+      Collections.newSetFromMap(new MapMaker().weakKeys().<Dependency<?>, Boolean>makeMap());
 
 
   public static InternalProvisionException circularDependenciesDisabled(Class<?> expectedType) {
@@ -21,11 +21,15 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.MapMaker;
 import com.google.inject.ConfigurationException;
 import com.google.inject.Key;
 import com.google.inject.TypeLiteral;
 import com.google.inject.util.Types;
 import java.io.Serializable;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.GenericDeclaration;
@@ -34,6 +38,7 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 /**
@@ -60,18 +65,59 @@ public class MoreTypes {
           .put(TypeLiteral.get(void.class), TypeLiteral.get(Void.class))
           .build();
 
+  private static final boolean KEY_INTERNING = InternalFlags.isKeyInterningEnabled();
+
+  /**
+   * Interns keys by the class of their annotation instance, or by {@code Key} for keys without
+   * one. Equal annotations of different classes, such as {@code Names.named("a")} and {@code
+   * @Named("a")} read from a member, print differently, so keys holding them aren't shared.
+   *
+   * <p>This is a weak-keyed map rather than a {@code ClassValue}: annotation classes can come from
+   * a parent class loader, such as {@code javax.inject.Named} provided by a container, and an
+   * interner stored on them would keep Guice's class loader alive.
+   */
+  private static final Map<Class<?>, Interner<Key<?>>> KEY_INTERNERS =
+      new MapMaker().weakKeys().makeMap();
+
+  private static final Interner<TypeLiteral<?>> TYPE_LITERAL_INTERNER =
+      Interners.newWeakInterner();
+
   /**
    * Returns a key that doesn't hold any references to parent classes. This is necessary for
    * anonymous keys, so ensure we don't hold a ref to the containing module (or class) forever.
+   *
+   * <p>If key interning is enabled, the returned key is also the one instance shared by all equal
+   * keys that were canonicalized, as long as their annotations are of the same class.
    */
   public static <T> Key<T> canonicalizeKey(Key<T> key) {
     // If we know this isn't a subclass, return as-is.
     // Otherwise, recreate the key to avoid the subclass
-    if (key.getClass() == Key.class) {
-      return key;
-    } else {
-      return key.ofType(key.getTypeLiteral());
+    if (key.getClass() != Key.class) {
+      key = key.ofType(key.getTypeLiteral());
     }
+    return KEY_INTERNING ? internKey(key) : key;
+  }
+
+  /**
+   * Returns the instance shared by all interned keys that are equal to {@code key} and have an
+   * annotation of the same class.
+   */
+  static <T> Key<T> internKey(Key<T> key) {
+    Annotation annotation = key.getAnnotation();
+    Class<?> internerClass = annotation != null ? annotation.getClass() : Key.class;
+    Interner<Key<?>> interner =
+        KEY_INTERNERS.computeIfAbsent(internerClass, c -> Interners.newWeakInterner());
+    return intern(interner, key);
+  }
+
+  /** Returns the instance shared by all interned type literals equal to {@code typeLiteral}. */
+  static <T> TypeLiteral<T> internTypeLiteral(TypeLiteral<T> typeLiteral) {
+    return intern(TYPE_LITERAL_INTERNER, typeLiteral);
+  }
+
+  @SuppressWarnings("unchecked") // interners only return instances equal to their argument
+  private static <T, S extends T> S intern(Interner<T> interner, S instance) {
+    return (S) interner.intern(instance);
   }
 
   /**
@@ -100,7 +146,7 @@ public class MoreTypes {
       TypeLiteral<T> guiceProviderType =
           (TypeLiteral<T>)
               TypeLiteral.get(Types.providerOf(parameterizedType.getActualTypeArguments()[0]));
-      return guiceProviderType;
+      return internForKey(guiceProviderType);
     }
 
     @SuppressWarnings("unchecked")
@@ -111,14 +157,18 @@ public class MoreTypes {
 
     // If we know this isn't a subclass, return as-is.
     if (typeLiteral.getClass() == TypeLiteral.class) {
-      return typeLiteral;
+      return internForKey(typeLiteral);
     }
 
     // recreate the TypeLiteral to avoid anonymous TypeLiterals from holding refs to their
     // surrounding classes.
     @SuppressWarnings("unchecked")
     TypeLiteral<T> recreated = (TypeLiteral<T>) TypeLiteral.get(typeLiteral.getType());
-    return recreated;
+    return internForKey(recreated);
+  }
+
+  private static <T> TypeLiteral<T> internForKey(TypeLiteral<T> typeLiteral) {
+    return KEY_INTERNING ? internTypeLiteral(typeLiteral) : typeLiteral;
   }
 
   /** Returns true if {@code type} is free from type variables. */
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+/**
+ * A binder that records the bindings of {@link com.google.inject.name.Names#bindProperties} in
+ * bulk. Binding each property separately captures the caller's stack and creates a binding builder
+ * per property, which dominates the cost of binding large configurations.
+ */
+public interface PropertiesBinder {
+
+  /**
+   * Binds {@code @Named(names[i]) String} to {@code values[i]} for each index, exactly as {@code
+   * bind(Key.get(String.class, Names.named(names[i]))).toInstance(values[i])} would, except that
+   * all of the bindings share one source.
+   */
+  void bindProperties(String[] names, String[] values);
+}
@@ -33,6 +33,7 @@ import com.google.inject.spi.ProviderWithExtensionVisitor;
 import com.google.inject.spi.ProvidesMethodBinding;
 import com.google.inject.spi.ProvidesMethodTargetVisitor;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -68,7 +69,14 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
         BiFunction<Object, Object[], Object> fastMethod = BytecodeGen.fastMethod(method);
         if (fastMethod != null) {
           return new FastClassProviderMethod<T>(
-              key, method, instance, dependencies, scopeAnnotation, annotation, fastMethod);
+              key,
+              method,
+              instance,
+              dependencies,
+              scopeAnnotation,
+              annotation,
+              fastMethod,
+              BytecodeGen.directMethod(method));
         }
       } catch (Exception | LinkageError e) {
         /* fall-through */
@@ -168,7 +176,7 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
   protected T doProvision(InternalContext context, Dependency<?> dependency)
       throws InternalProvisionException {
     try {
-      T t = doProvision(SingleParameterInjector.getAll(context, parameterInjectors));
+      T t = doProvision(context, parameterInjectors);
       if (t == null && !dependency.isNullable()) {
         InternalProvisionException.onNullInjectedIntoNonNullableDependency(getMethod(), dependency);
       }
@@ -181,6 +189,15 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
     }
   }
 
+  /**
+   * Injects the parameters and invokes the method. Subclasses that can invoke the method without an
+   * argument array override this.
+   */
+  T doProvision(InternalContext context, SingleParameterInjector<?>[] parameterInjectors)
+      throws InternalProvisionException, IllegalAccessException, InvocationTargetException {
+    return doProvision(SingleParameterInjector.getAll(context, parameterInjectors));
+  }
+
   /** Extension point for our subclasses to implement the provisioning strategy. */
   abstract T doProvision(Object[] parameters)
       throws IllegalAccessException, InvocationTargetException;
@@ -240,6 +257,7 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
    */
   private static final class FastClassProviderMethod<T> extends ProviderMethod<T> {
     final BiFunction<Object, Object[], Object> fastMethod;
+    final MethodHandle directMethod;
 
     FastClassProviderMethod(
         Key<T> key,
@@ -248,9 +266,24 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
         ImmutableSet<Dependency<?>> dependencies,
         Class<? extends Annotation> scopeAnnotation,
         Annotation annotation,
-        BiFunction<Object, Object[], Object> fastMethod) {
+        BiFunction<Object, Object[], Object> fastMethod,
+        MethodHandle directMethod) {
       super(key, method, instance, dependencies, scopeAnnotation, annotation);
       this.fastMethod = fastMethod;
+      this.directMethod = directMethod;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    T doProvision(InternalContext context, SingleParameterInjector<?>[] parameterInjectors)
+        throws InternalProvisionException, IllegalAccessException, InvocationTargetException {
+      MethodHandle localDirectMethod = directMethod;
+      if (localDirectMethod != null) {
+        return (T)
+            SingleParameterInjector.invokeDirect(
+                context, parameterInjectors, localDirectMethod, instance);
+      }
+      return super.doProvision(context, parameterInjectors);
     }
 
     @SuppressWarnings("unchecked")
@@ -49,6 +49,33 @@ import java.util.List;
  * @author jessewilson@google.com (Jesse Wilson)
  */
 public final class ProviderMethodsModule implements Module {
+
+  /**
+   * Whether a class or any of its superclasses declares a method that is claimed by the default
+   * {@link ProvidesMethodScanner}. Most modules, notably those used to create child injectors, have
+   * no such methods, so this lets us skip reflecting over them (and their superclasses, like {@code
+   * AbstractModule}) every time they are installed.
+   */
+  private static final ClassValue<Boolean> HAS_PROVIDES_METHODS =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          for (Method method : type.getDeclaredMethods()) {
+            if (method.isBridge() || method.isSynthetic()) {
+              continue;
+            }
+            for (Class<? extends Annotation> annotationClass :
+                ProvidesMethodScanner.INSTANCE.annotationClasses()) {
+              if (method.isAnnotationPresent(annotationClass)) {
+                return true;
+              }
+            }
+          }
+          Class<?> superclass = type.getSuperclass();
+          return superclass != Object.class && superclass != null && get(superclass);
+        }
+      };
+
   private final Object delegate;
   private final TypeLiteral<?> typeLiteral;
   private final boolean skipFastClassGeneration;
@@ -109,6 +136,10 @@ public final class ProviderMethodsModule implements Module {
   }
 
   public List<ProviderMethod<?>> getProviderMethods(Binder binder) {
+    if (scanner == ProvidesMethodScanner.INSTANCE
+        && !HAS_PROVIDES_METHODS.get(getDelegateModuleClass())) {
+      return ImmutableList.of();
+    }
     List<ProviderMethod<?>> result = null;
     List<MethodAndAnnotation> methodsAndAnnotations = null;
     // The highest class in the type hierarchy that contained a provider method definition.
@@ -45,18 +45,22 @@ final class ProvisionListenerCallbackStore {
 
   private final ImmutableList<ProvisionListenerBinding> listenerBindings;
 
-  private final LoadingCache<KeyBinding, ProvisionListenerStackCallback<?>> cache =
-      CacheBuilder.newBuilder()
-          .build(
-              new CacheLoader<KeyBinding, ProvisionListenerStackCallback<?>>() {
-                @Override
-                public ProvisionListenerStackCallback<?> load(KeyBinding key) {
-                  return create(key.binding);
-                }
-              });
+  /** null if there are no listeners, which is the case for most injectors */
+  private final LoadingCache<KeyBinding, ProvisionListenerStackCallback<?>> cache;
 
   ProvisionListenerCallbackStore(List<ProvisionListenerBinding> listenerBindings) {
     this.listenerBindings = ImmutableList.copyOf(listenerBindings);
+    this.cache =
+        this.listenerBindings.isEmpty()
+            ? null
+            : CacheBuilder.newBuilder()
+                .build(
+                    new CacheLoader<KeyBinding, ProvisionListenerStackCallback<?>>() {
+                      @Override
+                      public ProvisionListenerStackCallback<?> load(KeyBinding key) {
+                        return create(key.binding);
+                      }
+                    });
   }
 
   /**
@@ -66,8 +70,9 @@ final class ProvisionListenerCallbackStore {
   @SuppressWarnings(
       "unchecked") // the ProvisionListenerStackCallback type always agrees with the passed type
   public <T> ProvisionListenerStackCallback<T> get(Binding<T> binding) {
-    // Never notify any listeners for internal bindings.
-    if (!INTERNAL_BINDINGS.contains(binding.getKey())) {
+    // Never notify any listeners for internal bindings, and don't cache an empty callback for
+    // every binding of an injector without listeners.
+    if (cache != null && !INTERNAL_BINDINGS.contains(binding.getKey())) {
       ProvisionListenerStackCallback<T> callback =
           (ProvisionListenerStackCallback<T>)
               cache.getUnchecked(new KeyBinding(binding.getKey(), binding));
@@ -86,7 +91,7 @@ final class ProvisionListenerCallbackStore {
    * <p>Returns true if the type was stored in the cache, false otherwise.
    */
   boolean remove(Binding<?> type) {
-    return cache.asMap().remove(type) != null;
+    return cache != null && cache.asMap().remove(type) != null;
   }
 
   /**
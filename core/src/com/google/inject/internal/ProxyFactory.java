@@ -22,6 +22,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import com.google.inject.spi.InjectionPoint;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
@@ -183,6 +184,11 @@ final class ProxyFactory<T> implements ConstructionProxyFactory<T> {
       return (T) enhancedConstructor.apply(callbacks, arguments);
     }
 
+    @Override
+    public MethodHandle getDirectConstructor() {
+      return null;
+    }
+
     @Override
     public InjectionPoint getInjectionPoint() {
       return injectionPoint;
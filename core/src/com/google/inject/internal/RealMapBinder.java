@@ -4,6 +4,7 @@ import static com.google.inject.internal.Element.Type.MAPBINDER;
 import static com.google.inject.internal.Errors.checkConfiguration;
 import static com.google.inject.internal.Errors.checkNotNull;
 import static com.google.inject.internal.RealMultibinder.setOf;
+import static com.google.inject.name.Names.named;
 import static com.google.inject.util.Types.newParameterizedType;
 import static com.google.inject.util.Types.newParameterizedTypeWithOwner;
 
@@ -17,8 +18,10 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Maps.EntryTransformer;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
+import com.google.inject.AbstractModule;
 import com.google.inject.Binder;
 import com.google.inject.Binding;
 import com.google.inject.Injector;
@@ -44,6 +47,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The actual mapbinder plays several roles:
@@ -268,6 +272,11 @@ public final class RealMapBinder<K, V> implements Module {
     binder.install(new MultimapBinder<K, V>(bindingSelection));
   }
 
+  public void lazyValues() {
+    checkConfiguration(!bindingSelection.isInitialized(), "MapBinder was already initialized");
+    binder.install(new LazyValuesModule(bindingSelection.getLazyValuesKey()));
+  }
+
   /** Adds a binding to the map for the given key. */
   Key<V> getKeyForNewValue(K key) {
     checkNotNull(key, "key");
@@ -301,7 +310,7 @@ public final class RealMapBinder<K, V> implements Module {
         new RealProviderMapProvider<K, V>(bindingSelection);
     binder.bind(bindingSelection.getProviderMapKey()).toProvider(providerMapProvider);
 
-    // The map this exposes is internally an ImmutableMap, so it's OK to massage
+    // The map this exposes is internally immutable, so it's OK to massage
     // the guice Provider to javax Provider in the value (since Guice provider
     // implements javax Provider).
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -369,6 +378,7 @@ public final class RealMapBinder<K, V> implements Module {
     private Key<Map<K, Collection<javax.inject.Provider<V>>>> javaxProviderCollectionMultimapKey;
     private Key<Set<Map.Entry<K, javax.inject.Provider<V>>>> entrySetJavaxProviderKey;
     private Key<Map<K, ? extends V>> mapOfKeyExtendsValueKey;
+    private Key<Boolean> lazyValuesKey;
 
     private final RealMultibinder<Map.Entry<K, Provider<V>>> entrySetBinder;
 
@@ -380,6 +390,12 @@ public final class RealMapBinder<K, V> implements Module {
      */
     private ImmutableMap<K, Binding<V>> mapBindings;
 
+    /**
+     * Index of the keys of {@link #mapBindings} if they are enum constants or small integers, used
+     * to build maps with array lookups. Null otherwise.
+     */
+    private IndexedKeyMap.KeyIndex<K> keyIndex;
+
     private ImmutableMap<K, Set<Binding<V>>> multimapBindings;
     private ImmutableList<Map.Entry<K, Binding<V>>> entries;
 
@@ -390,6 +406,12 @@ public final class RealMapBinder<K, V> implements Module {
      */
     private boolean permitsDuplicates;
 
+    /**
+     * Indicates if the {@code Map<K, V>} resolves its values on access. Like {@link
+     * #permitsDuplicates}, any contributing module can set this, so it is read from the injector.
+     */
+    private boolean lazyValues;
+
     private BindingSelection(
         TypeLiteral<K> keyType,
         TypeLiteral<V> valueType,
@@ -418,6 +440,7 @@ public final class RealMapBinder<K, V> implements Module {
       // Since permitDuplicates() may not have been called on this instance, we need to go
       // to the injector to see if permitDuplicates was set.
       permitsDuplicates = entrySetBinder.permitsDuplicates(injector);
+      lazyValues = injector.getBindings().containsKey(getLazyValuesKey());
 
       // We now build the Map<K, Set<Binding<V>>> from the entrySetBinder.
       // The entrySetBinder contains all of the ProviderMapEntrys, and once
@@ -504,6 +527,7 @@ public final class RealMapBinder<K, V> implements Module {
         bindingsMultimapBuilder.put(entry.getKey(), entry.getValue().build());
       }
       mapBindings = ImmutableMap.copyOf(bindingMapMutable);
+      keyIndex = IndexedKeyMap.KeyIndex.create(mapBindings.keySet().asList());
       multimapBindings = bindingsMultimapBuilder.build();
 
       entries = entriesBuilder.build();
@@ -563,6 +587,7 @@ public final class RealMapBinder<K, V> implements Module {
           || key.equals(entrySetBinder.getSetKey())
           || key.equals(getEntrySetJavaxProviderKey())
           || key.equals(getMapOfKeyExtendsValueKey())
+          || key.equals(getLazyValuesKey())
           || matchesValueKey(key);
     }
 
@@ -661,11 +686,37 @@ public final class RealMapBinder<K, V> implements Module {
       return local;
     }
 
+    private Key<Boolean> getLazyValuesKey() {
+      Key<Boolean> local = lazyValuesKey;
+      if (local == null) {
+        local = lazyValuesKey = lazyValuesKey(mapKey);
+      }
+      return local;
+    }
+
     private ImmutableMap<K, Binding<V>> getMapBindings() {
       checkConfiguration(isInitialized(), "MapBinder has not yet been initialized");
       return mapBindings;
     }
 
+    /**
+     * Returns a map of the map keys to {@code values}, which is parallel to {@link
+     * #getMapBindings()}. Uses array lookups when the keys allow it.
+     */
+    private <T> Map<K, T> newMap(Object[] values) {
+      if (keyIndex != null) {
+        return new IndexedKeyMap<K, T>(keyIndex, values);
+      }
+      ImmutableMap.Builder<K, T> builder = ImmutableMap.builderWithExpectedSize(values.length);
+      int i = 0;
+      for (K key : mapBindings.keySet()) {
+        @SuppressWarnings("unchecked")
+        T value = (T) values[i++];
+        builder.put(key, value);
+      }
+      return builder.build();
+    }
+
     private ImmutableMap<K, Set<Binding<V>>> getMultimapBindings() {
       checkConfiguration(isInitialized(), "MapBinder has not yet been initialized");
       return multimapBindings;
@@ -696,6 +747,11 @@ public final class RealMapBinder<K, V> implements Module {
       return entrySetBinder;
     }
 
+    private boolean hasLazyValues() {
+      checkConfiguration(isInitialized(), "MapBinder has not yet been initialized");
+      return lazyValues;
+    }
+
     private boolean permitsDuplicates() {
       if (isInitialized()) {
         return permitsDuplicates;
@@ -732,14 +788,16 @@ public final class RealMapBinder<K, V> implements Module {
 
     @Override
     protected void doInitialize(InjectorImpl injector, Errors errors) {
-      ImmutableMap.Builder<K, Provider<V>> mapOfProvidersBuilder = ImmutableMap.builder();
+      ImmutableMap<K, Binding<V>> mapBindings = bindingSelection.getMapBindings();
+      Object[] providers = new Object[mapBindings.size()];
       ImmutableSet.Builder<Dependency<?>> dependenciesBuilder = ImmutableSet.builder();
-      for (Map.Entry<K, Binding<V>> entry : bindingSelection.getMapBindings().entrySet()) {
-        mapOfProvidersBuilder.put(entry.getKey(), entry.getValue().getProvider());
-        dependenciesBuilder.add(Dependency.get(getKeyOfProvider(entry.getValue().getKey())));
+      int i = 0;
+      for (Binding<V> binding : mapBindings.values()) {
+        providers[i++] = binding.getProvider();
+        dependenciesBuilder.add(Dependency.get(getKeyOfProvider(binding.getKey())));
       }
 
-      mapOfProviders = mapOfProvidersBuilder.build();
+      mapOfProviders = bindingSelection.newMap(providers);
       dependencies = dependenciesBuilder.build();
     }
 
@@ -763,6 +821,9 @@ public final class RealMapBinder<K, V> implements Module {
 
     private K[] keys;
 
+    /** The bindings of the values, in map order, if the map has lazy values, else null. */
+    private Map<K, Binding<V>> lazyBindings;
+
     private RealMapProvider(BindingSelection<K, V> bindingSelection) {
       super(bindingSelection);
     }
@@ -773,6 +834,19 @@ public final class RealMapBinder<K, V> implements Module {
 
     @Override
     protected void doInitialize(InjectorImpl injector, Errors errors) throws ErrorsException {
+      if (bindingSelection.hasLazyValues()) {
+        // Values are only provisioned on access, so like Map<K, Provider<V>> we depend on their
+        // providers rather than the values themselves.
+        ImmutableSet.Builder<Dependency<?>> dependenciesBuilder = ImmutableSet.builder();
+        for (Binding<V> binding : bindingSelection.getMapBindings().values()) {
+          dependenciesBuilder.add(Dependency.get(getKeyOfProvider(binding.getKey())));
+        }
+        lazyBindings =
+            bindingSelection.newMap(bindingSelection.getMapBindings().values().toArray());
+        dependencies = dependenciesBuilder.build();
+        return;
+      }
+
       @SuppressWarnings("unchecked")
       K[] keysArray = (K[]) new Object[bindingSelection.getMapBindings().size()];
       keys = keysArray;
@@ -800,13 +874,19 @@ public final class RealMapBinder<K, V> implements Module {
     @Override
     protected Map<K, V> doProvision(InternalContext context, Dependency<?> dependency)
         throws InternalProvisionException {
+      Map<K, Binding<V>> localLazyBindings = lazyBindings;
+      if (localLazyBindings != null) {
+        // a view per provision, so values are shared by the reads of one map like eager values are
+        return Maps.transformEntries(localLazyBindings, new LazyValueTransformer<K, V>());
+      }
+
       SingleParameterInjector<V>[] localInjectors = injectors;
       if (localInjectors == null) {
         // if injectors == null, then we have no bindings so return the empty map.
         return ImmutableMap.of();
       }
 
-      ImmutableMap.Builder<K, V> resultBuilder = ImmutableMap.builder();
+      Object[] values = new Object[localInjectors.length];
       K[] localKeys = keys;
       for (int i = 0; i < localInjectors.length; i++) {
         SingleParameterInjector<V> injector = localInjectors[i];
@@ -818,10 +898,10 @@ public final class RealMapBinder<K, V> implements Module {
           throw createNullValueException(key, bindingSelection.getMapBindings().get(key));
         }
 
-        resultBuilder.put(key, value);
+        values[i] = value;
       }
 
-      return resultBuilder.build();
+      return bindingSelection.newMap(values);
     }
 
     @Override
@@ -1259,6 +1339,61 @@ public final class RealMapBinder<K, V> implements Module {
     }
   }
 
+  /**
+   * Provisions each value of a lazy {@code Map<K, V>} the first time it is read, and returns that
+   * value for later reads. Like eagerly provisioned maps, null values are rejected.
+   */
+  private static final class LazyValueTransformer<K, V>
+      implements EntryTransformer<K, Binding<V>, V> {
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+
+    @Override
+    public V transformEntry(K key, Binding<V> binding) {
+      V value = values.get(key);
+      if (value == null) {
+        // not computeIfAbsent, since provisioning the value may read this map again
+        value = binding.getProvider().get();
+        if (value == null) {
+          throw createNullValueException(key, binding).toProvisionException();
+        }
+        V previous = values.putIfAbsent(key, value);
+        if (previous != null) {
+          value = previous;
+        }
+      }
+      return value;
+    }
+  }
+
+  /** Returns the key of the marker that makes the map bound to {@code mapKey} have lazy values. */
+  static Key<Boolean> lazyValuesKey(Key<?> mapKey) {
+    return Key.get(Boolean.class, named(mapKey + " has lazy values"));
+  }
+
+  /** Binds the marker that makes a {@code Map<K, V>} resolve its values on access. */
+  private static class LazyValuesModule extends AbstractModule {
+    private final Key<Boolean> key;
+
+    LazyValuesModule(Key<Boolean> key) {
+      this.key = key;
+    }
+
+    @Override
+    protected void configure() {
+      bind(key).toInstance(true);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof LazyValuesModule && ((LazyValuesModule) o).key.equals(key);
+    }
+
+    @Override
+    public int hashCode() {
+      return getClass().hashCode() ^ key.hashCode();
+    }
+  }
+
   /** A base class for ProviderWithDependencies that need equality based on a specific object. */
   private abstract static class RealMapBinderProviderWithDependencies<K, V, P>
       extends InternalProviderInstanceBindingImpl.Factory<P> {
@@ -17,6 +17,7 @@ import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
 import com.google.inject.Provider;
+import com.google.inject.Scopes;
 import com.google.inject.TypeLiteral;
 import com.google.inject.binder.LinkedBindingBuilder;
 import com.google.inject.internal.InternalProviderInstanceBindingImpl.InitializationTiming;
@@ -24,6 +25,8 @@ import com.google.inject.multibindings.MultibinderBinding;
 import com.google.inject.multibindings.MultibindingsTargetVisitor;
 import com.google.inject.spi.BindingTargetVisitor;
 import com.google.inject.spi.Dependency;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.LinkedKeyBinding;
 import com.google.inject.spi.Message;
 import com.google.inject.spi.ProviderInstanceBinding;
 import com.google.inject.spi.ProviderWithExtensionVisitor;
@@ -165,6 +168,23 @@ public final class RealMultibinder<T> implements Module {
     private SingleParameterInjector<T>[] injectors;
     private boolean permitDuplicates;
 
+    /**
+     * Whether the element at each index always provides the same instance, or null if none does.
+     * See {@link BindingSelection#isConstant}.
+     */
+    private boolean[] constantElements;
+
+    private boolean allElementsConstant;
+
+    /** The set, once provisioned, if all of its elements are constant. */
+    private volatile ImmutableSet<T> constantSet;
+
+    /**
+     * The values of the constant elements, once provisioned, with null at the other indices. Only
+     * used if some but not all elements are constant.
+     */
+    private volatile Object[] constantValues;
+
     RealMultibinderProvider(BindingSelection<T> bindingSelection) {
       // While Multibinders only depend on bindings created in modules so we could theoretically
       // initialize eagerly, they also depend on
@@ -186,16 +206,32 @@ public final class RealMultibinder<T> implements Module {
       this.bindings = bindingSelection.getBindings();
       this.injectors = bindingSelection.getParameterInjectors();
       this.permitDuplicates = bindingSelection.permitsDuplicates();
+      boolean[] constant = new boolean[bindings.size()];
+      int constantCount = 0;
+      for (int i = 0; i < constant.length; i++) {
+        if (BindingSelection.isConstant(bindings.get(i))) {
+          constant[i] = true;
+          constantCount++;
+        }
+      }
+      this.constantElements = constantCount == 0 ? null : constant;
+      this.allElementsConstant = constantCount > 0 && constantCount == constant.length;
     }
 
     @Override
     protected Set<T> doProvision(InternalContext context, Dependency<?> dependency)
         throws InternalProvisionException {
+      ImmutableSet<T> localConstantSet = constantSet;
+      if (localConstantSet != null) {
+        return localConstantSet;
+      }
       SingleParameterInjector<T>[] localInjectors = injectors;
       if (localInjectors == null) {
         // if localInjectors == null, then we have no bindings so return the empty set.
         return ImmutableSet.of();
       }
+      boolean[] localConstantElements = constantElements;
+      Object[] localConstantValues = constantValues;
       // Ideally we would just add to an ImmutableSet.Builder, but if we did that and there were
       // duplicates we wouldn't be able to tell which one was the duplicate.  So to manage this we
       // first put everything into an array and then construct the set.  This way if something gets
@@ -203,6 +239,12 @@ public final class RealMultibinder<T> implements Module {
       @SuppressWarnings("unchecked")
       T[] values = (T[]) new Object[localInjectors.length];
       for (int i = 0; i < localInjectors.length; i++) {
+        if (localConstantValues != null && localConstantElements[i]) {
+          @SuppressWarnings("unchecked") // only values of this set are remembered
+          T constantValue = (T) localConstantValues[i];
+          values[i] = constantValue;
+          continue;
+        }
         SingleParameterInjector<T> parameterInjector = localInjectors[i];
         T newValue = parameterInjector.inject(context);
         if (newValue == null) {
@@ -215,9 +257,33 @@ public final class RealMultibinder<T> implements Module {
       if (!permitDuplicates && set.size() < values.length) {
         throw newDuplicateValuesException(set, values);
       }
+      if (localConstantElements != null && localConstantValues == null) {
+        rememberConstantValues(set, values);
+      }
       return set;
     }
 
+    /**
+     * Remembers the values of the constant elements, so that later provisions can skip them. Values
+     * are not remembered if any of them is a circular proxy, since those are only placeholders.
+     */
+    private void rememberConstantValues(ImmutableSet<T> set, T[] values) {
+      Object[] remembered = new Object[values.length];
+      for (int i = 0; i < values.length; i++) {
+        if (constantElements[i]) {
+          if (BytecodeGen.isCircularProxy(values[i])) {
+            return;
+          }
+          remembered[i] = values[i];
+        }
+      }
+      if (allElementsConstant) {
+        constantSet = set;
+      } else {
+        constantValues = remembered;
+      }
+    }
+
     private InternalProvisionException newNullEntryException(int i) {
       return InternalProvisionException.create(
           ErrorId.NULL_ELEMENT_IN_SET,
@@ -420,6 +486,24 @@ public final class RealMultibinder<T> implements Module {
       isInitialized = true;
     }
 
+    /**
+     * Returns true if {@code binding} always provides the same instance: it is singleton scoped,
+     * an instance binding, or an unscoped link to either.
+     */
+    static boolean isConstant(Binding<?> binding) {
+      if (Scopes.isSingleton(binding)) {
+        return true;
+      }
+      while (binding instanceof LinkedKeyBinding && binding instanceof BindingImpl) {
+        Injector injector = ((BindingImpl<?>) binding).getInjector();
+        if (injector == null) {
+          return false;
+        }
+        binding = injector.getExistingBinding(((LinkedKeyBinding<?>) binding).getLinkedKey());
+      }
+      return binding instanceof InstanceBinding;
+    }
+
     boolean permitsDuplicates(Injector injector) {
       return injector.getBindings().containsKey(getPermitDuplicatesKey());
     }
@@ -247,6 +247,9 @@ public final class RealOptionalBinder<T> implements Module {
     private Dependency<?> targetDependency;
     private InternalFactory<? extends T> target;
 
+    /** The optional of the target's instance, once the target always returns it. */
+    private volatile java.util.Optional<T> constant;
+
     JavaOptionalProvider(
         BindingSelection<T> bindingSelection, Key<java.util.Optional<T>> optionalKey) {
       super(bindingSelection);
@@ -265,6 +268,10 @@ public final class RealOptionalBinder<T> implements Module {
     protected java.util.Optional<T> doProvision(
         InternalContext context, Dependency<?> currentDependency)
         throws InternalProvisionException {
+      java.util.Optional<T> localConstant = constant;
+      if (localConstant != null) {
+        return localConstant;
+      }
       InternalFactory<? extends T> local = target;
       if (local == null) {
         return java.util.Optional.empty();
@@ -281,6 +288,10 @@ public final class RealOptionalBinder<T> implements Module {
         } finally {
           context.popStateAndSetDependency(previous);
       }
+      T targetConstant = local.getConstant();
+      if (targetConstant != null) {
+        constant = java.util.Optional.of(targetConstant);
+      }
       return java.util.Optional.ofNullable(result);
     }
 
@@ -369,6 +380,9 @@ public final class RealOptionalBinder<T> implements Module {
 
     private InternalFactory<? extends T> targetFactory;
 
+    /** The target's instance, once the target always returns it. */
+    private volatile T constant;
+
     RealDirectTypeProvider(BindingSelection<T> bindingSelection) {
       super(bindingSelection);
     }
@@ -386,15 +400,30 @@ public final class RealOptionalBinder<T> implements Module {
     @Override
     protected T doProvision(InternalContext context, Dependency<?> dependency)
         throws InternalProvisionException {
+      T local = constant;
+      if (local != null) {
+        return local;
+      }
       // This is what linked bindings do (see FactoryProxy), and we are pretty similar.
       context.pushState(targetKey, targetSource);
       try {
-        return targetFactory.get(context, dependency, true);
+        local = targetFactory.get(context, dependency, true);
       } catch (InternalProvisionException ipe) {
         throw ipe.addSource(targetKey);
         } finally {
           context.popState();
       }
+      T targetConstant = targetFactory.getConstant();
+      if (targetConstant != null) {
+        constant = targetConstant;
+      }
+      return local;
+    }
+
+    @Override
+    public T getConstant() {
+      // Provision listeners on this binding must still see every provision.
+      return provisionCallback == null ? constant : null;
     }
 
     @Override
@@ -444,6 +473,9 @@ public final class RealOptionalBinder<T> implements Module {
     private Dependency<?> targetDependency;
     private InternalFactory<? extends T> delegate;
 
+    /** The optional of the target's instance, once the target always returns it. */
+    private volatile Optional<T> constant;
+
     RealOptionalKeyProvider(BindingSelection<T> bindingSelection, Key<Optional<T>> optionalKey) {
       super(bindingSelection);
       this.optionalKey = optionalKey;
@@ -460,6 +492,10 @@ public final class RealOptionalBinder<T> implements Module {
     @Override
     protected Optional<T> doProvision(InternalContext context, Dependency<?> currentDependency)
         throws InternalProvisionException {
+      Optional<T> localConstant = constant;
+      if (localConstant != null) {
+        return localConstant;
+      }
       InternalFactory<? extends T> local = delegate;
       if (local == null) {
         return Optional.absent();
@@ -478,6 +514,10 @@ public final class RealOptionalBinder<T> implements Module {
         } finally {
           context.popStateAndSetDependency(previous);
       }
+      T targetConstant = local.getConstant();
+      if (targetConstant != null) {
+        constant = Optional.of(targetConstant);
+      }
       return Optional.fromNullable(result);
     }
 
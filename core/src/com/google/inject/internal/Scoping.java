@@ -17,6 +17,7 @@
 package com.google.inject.internal;
 
 import com.google.common.base.Objects;
+import com.google.inject.IndexedScope;
 import com.google.inject.Key;
 import com.google.inject.Provider;
 import com.google.inject.Scope;
@@ -295,9 +296,13 @@ public abstract class Scoping {
     // NOTE: SingletonScope relies on the fact that we are passing a
     // ProviderToInternalFactoryAdapter here.  If you change the type make sure to update
     // SingletonScope as well.
+    Provider<T> unscoped = new ProviderToInternalFactoryAdapter<T>(injector, creator);
     Provider<T> scoped =
-        scope.scope(key, new ProviderToInternalFactoryAdapter<T>(injector, creator));
-    return new InternalFactoryToProviderAdapter<T>(scoped, source);
+        scope instanceof IndexedScope
+            ? ((IndexedScope) scope)
+                .scope(key, IndexedScopeSlots.lease((IndexedScope) scope, injector), unscoped)
+            : scope.scope(key, unscoped);
+    return new InternalFactoryToProviderAdapter<T>(scoped, source, scope == Scopes.SINGLETON);
   }
 
   /**
@@ -20,6 +20,7 @@ import com.google.inject.internal.InjectorImpl.JitLimitation;
 import com.google.inject.spi.Dependency;
 import com.google.inject.spi.InjectionPoint;
 import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
 
 /** Sets an injectable field. */
 final class SingleFieldInjector implements SingleMemberInjector {
@@ -28,6 +29,20 @@ final class SingleFieldInjector implements SingleMemberInjector {
   final Dependency<?> dependency;
   final BindingImpl<?> binding;
 
+  /** Sets the field with generated code, or null if it's set with reflection. */
+  private final BiConsumer<Object, Object> fastSetter;
+
+  /** The value of a constant binding, which is set without asking its factory, or null. */
+  private final Object constant;
+
+  /**
+   * The bits of {@link #constant} unboxed, for primitive fields, and the descriptor character of
+   * the field's type, or 0 if the constant is set with {@link Field#set}.
+   */
+  private final long primitiveConstant;
+
+  private final char primitiveType;
+
   public SingleFieldInjector(InjectorImpl injector, InjectionPoint injectionPoint, Errors errors)
       throws ErrorsException {
     this.injectionPoint = injectionPoint;
@@ -37,6 +52,65 @@ final class SingleFieldInjector implements SingleMemberInjector {
     // Ewwwww...
     field.setAccessible(true);
     binding = injector.getBindingOrThrow(dependency.getKey(), errors, JitLimitation.NO_JIT);
+    fastSetter = createFastSetter(field);
+
+    constant = binding.getInternalFactory().getConstant();
+    Class<?> fieldType = field.getType();
+    if (constant != null && fieldType.isPrimitive()) {
+      primitiveType = descriptor(fieldType);
+      primitiveConstant = primitiveBits(constant);
+    } else {
+      primitiveType = 0;
+      primitiveConstant = 0;
+    }
+  }
+
+  private static BiConsumer<Object, Object> createFastSetter(Field field) {
+    if (InternalFlags.isBytecodeGenEnabled()) {
+      try {
+        return BytecodeGen.fastSetter(field);
+      } catch (Exception | LinkageError e) {
+        /* fall-through */
+      }
+    }
+    return null;
+  }
+
+  /** Returns the JVM descriptor character of a primitive type. */
+  private static char descriptor(Class<?> primitive) {
+    if (primitive == int.class) {
+      return 'I';
+    } else if (primitive == long.class) {
+      return 'J';
+    } else if (primitive == boolean.class) {
+      return 'Z';
+    } else if (primitive == double.class) {
+      return 'D';
+    } else if (primitive == float.class) {
+      return 'F';
+    } else if (primitive == char.class) {
+      return 'C';
+    } else if (primitive == short.class) {
+      return 'S';
+    } else if (primitive == byte.class) {
+      return 'B';
+    }
+    throw new IllegalArgumentException("Not a primitive field type: " + primitive);
+  }
+
+  /** Returns the bits of a boxed primitive, widened to a long. */
+  private static long primitiveBits(Object boxed) {
+    if (boxed instanceof Boolean) {
+      return ((Boolean) boxed) ? 1 : 0;
+    } else if (boxed instanceof Character) {
+      return (Character) boxed;
+    } else if (boxed instanceof Float) {
+      return Float.floatToRawIntBits((Float) boxed);
+    } else if (boxed instanceof Double) {
+      return Double.doubleToRawLongBits((Double) boxed);
+    } else {
+      return ((Number) boxed).longValue();
+    }
   }
 
   @Override
@@ -46,10 +120,19 @@ final class SingleFieldInjector implements SingleMemberInjector {
 
   @Override
   public void inject(InternalContext context, Object o) throws InternalProvisionException {
+    if (constant != null) {
+      injectConstant(o);
+      return;
+    }
     Dependency previous = context.pushDependency(dependency, binding.getSource());
     try {
       Object value = binding.getInternalFactory().get(context, dependency, false);
-      field.set(o, value);
+      BiConsumer<Object, Object> localFastSetter = fastSetter;
+      if (localFastSetter != null) {
+        localFastSetter.accept(o, value);
+      } else {
+        field.set(o, value);
+      }
     } catch (InternalProvisionException e) {
       throw e.addSource(dependency);
     } catch (IllegalAccessException e) {
@@ -58,4 +141,51 @@ final class SingleFieldInjector implements SingleMemberInjector {
         context.popStateAndSetDependency(previous);
       }
   }
+
+  /**
+   * Sets the constant without touching the context's dependency stack, which only serves to report
+   * errors that a constant can't raise. Without a fast setter, primitive fields are set from the
+   * unboxed bits so that the field accessor doesn't need to check and unbox the wrapper on every
+   * injection.
+   */
+  private void injectConstant(Object o) {
+    BiConsumer<Object, Object> localFastSetter = fastSetter;
+    if (localFastSetter != null) {
+      localFastSetter.accept(o, constant);
+      return;
+    }
+    try {
+      switch (primitiveType) {
+        case 'I':
+          field.setInt(o, (int) primitiveConstant);
+          break;
+        case 'J':
+          field.setLong(o, primitiveConstant);
+          break;
+        case 'Z':
+          field.setBoolean(o, primitiveConstant != 0);
+          break;
+        case 'D':
+          field.setDouble(o, Double.longBitsToDouble(primitiveConstant));
+          break;
+        case 'F':
+          field.setFloat(o, Float.intBitsToFloat((int) primitiveConstant));
+          break;
+        case 'C':
+          field.setChar(o, (char) primitiveConstant);
+          break;
+        case 'S':
+          field.setShort(o, (short) primitiveConstant);
+          break;
+        case 'B':
+          field.setByte(o, (byte) primitiveConstant);
+          break;
+        default:
+          field.set(o, constant);
+          break;
+      }
+    } catch (IllegalAccessException e) {
+      throw new AssertionError(e); // a security manager is blocking us, we're hosed
+    }
+  }
 }
@@ -18,6 +18,7 @@ package com.google.inject.internal;
 
 import com.google.inject.internal.InjectorImpl.MethodInvoker;
 import com.google.inject.spi.InjectionPoint;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -26,6 +27,7 @@ import java.util.function.BiFunction;
 /** Invokes an injectable method. */
 final class SingleMethodInjector implements SingleMemberInjector {
   private final MethodInvoker methodInvoker;
+  private final MethodHandle directMethod;
   private final SingleParameterInjector<?>[] parameterInjectors;
   private final InjectionPoint injectionPoint;
 
@@ -34,6 +36,7 @@ final class SingleMethodInjector implements SingleMemberInjector {
     this.injectionPoint = injectionPoint;
     final Method method = (Method) injectionPoint.getMember();
     methodInvoker = createMethodInvoker(method);
+    directMethod = createDirectMethod(method);
     parameterInjectors = injector.getParametersInjectors(injectionPoint.getDependencies(), errors);
   }
 
@@ -74,6 +77,17 @@ final class SingleMethodInjector implements SingleMemberInjector {
     };
   }
 
+  private static MethodHandle createDirectMethod(Method method) {
+    if (InternalFlags.isBytecodeGenEnabled()) {
+      try {
+        return BytecodeGen.directMethod(method);
+      } catch (Exception | LinkageError e) {
+        /* fall-through */
+      }
+    }
+    return null;
+  }
+
   @Override
   public InjectionPoint getInjectionPoint() {
     return injectionPoint;
@@ -81,10 +95,14 @@ final class SingleMethodInjector implements SingleMemberInjector {
 
   @Override
   public void inject(InternalContext context, Object o) throws InternalProvisionException {
-    Object[] parameters = SingleParameterInjector.getAll(context, parameterInjectors);
-
+    MethodHandle localDirectMethod = directMethod;
     try {
-      methodInvoker.invoke(o, parameters);
+      if (localDirectMethod != null) {
+        SingleParameterInjector.invokeDirect(context, parameterInjectors, localDirectMethod, o);
+      } else {
+        Object[] parameters = SingleParameterInjector.getAll(context, parameterInjectors);
+        methodInvoker.invoke(o, parameters);
+      }
     } catch (IllegalAccessException e) {
       throw new AssertionError(e); // a security manager is blocking us, we're hosed
     } catch (InvocationTargetException userException) {
@@ -17,6 +17,8 @@
 package com.google.inject.internal;
 
 import com.google.inject.spi.Dependency;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
 
 /** Resolves a single parameter, to be used in a constructor or method invocation. */
 final class SingleParameterInjector<T> {
@@ -28,13 +30,22 @@ final class SingleParameterInjector<T> {
 
   private final InternalFactory<? extends T> factory;
 
+  /** The value of a constant binding, which is injected without asking its factory, or null. */
+  private final T constant;
+
   SingleParameterInjector(Dependency<T> dependency, BindingImpl<? extends T> binding) {
     this.dependency = dependency;
     this.source = binding.getSource();
     this.factory = binding.getInternalFactory();
+    this.constant = factory.getConstant();
   }
 
   T inject(InternalContext context) throws InternalProvisionException {
+    T localConstant = constant;
+    if (localConstant != null) {
+      // The dependency stack only serves to report errors, which a constant can't raise.
+      return localConstant;
+    }
     Dependency<T> localDependency = dependency;
     Dependency previous = context.pushDependency(localDependency, source);
     try {
@@ -64,5 +75,49 @@ final class SingleParameterInjector<T> {
     }
     return parameters;
   }
+
+  /**
+   * Injects the parameters and passes them to a direct invoker, one argument each, after the given
+   * context object. This saves the argument array allocated by {@link #getAll}.
+   *
+   * @see BytecodeGen.FastClassInvokers#directInvoker
+   */
+  static Object invokeDirect(
+      InternalContext context,
+      SingleParameterInjector<?>[] parameterInjectors,
+      MethodHandle directInvoker,
+      Object contextObject)
+      throws InternalProvisionException, InvocationTargetException {
+    int size = parameterInjectors == null ? 0 : parameterInjectors.length;
+    Object p0 = size > 0 ? parameterInjectors[0].inject(context) : null;
+    Object p1 = size > 1 ? parameterInjectors[1].inject(context) : null;
+    Object p2 = size > 2 ? parameterInjectors[2].inject(context) : null;
+    Object p3 = size > 3 ? parameterInjectors[3].inject(context) : null;
+    Object p4 = size > 4 ? parameterInjectors[4].inject(context) : null;
+    Object p5 = size > 5 ? parameterInjectors[5].inject(context) : null;
+    try {
+      switch (size) {
+        case 0:
+          return (Object) directInvoker.invokeExact(contextObject);
+        case 1:
+          return (Object) directInvoker.invokeExact(contextObject, p0);
+        case 2:
+          return (Object) directInvoker.invokeExact(contextObject, p0, p1);
+        case 3:
+          return (Object) directInvoker.invokeExact(contextObject, p0, p1, p2);
+        case 4:
+          return (Object) directInvoker.invokeExact(contextObject, p0, p1, p2, p3);
+        case 5:
+          return (Object) directInvoker.invokeExact(contextObject, p0, p1, p2, p3, p4);
+        case 6:
+          return (Object) directInvoker.invokeExact(contextObject, p0, p1, p2, p3, p4, p5);
+        default:
+          break;
+      }
+    } catch (Throwable e) {
+      throw new InvocationTargetException(e); // match JDK reflection behaviour
+    }
+    throw new AssertionError("No direct invoker takes " + size + " parameters");
+  }
 }
 
@@ -148,30 +148,38 @@ final class TypeConverterBindingProcessor extends AbstractProcessor {
 
   private static <T> void convertToClass(
       InjectorImpl injector, Class<T> type, TypeConverter converter) {
-    convertToClasses(injector, Matchers.identicalTo(type), converter);
+    injector
+        .getBindingData()
+        .addClassConverter(
+            type,
+            new TypeConverterBinding(
+                SourceProvider.UNKNOWN_SOURCE,
+                classMatcher(Matchers.identicalTo(type)),
+                converter));
   }
 
   private static void convertToClasses(
       InjectorImpl injector, final Matcher<? super Class<?>> typeMatcher, TypeConverter converter) {
-    internalConvertToTypes(
-        injector,
-        new AbstractMatcher<TypeLiteral<?>>() {
-          @Override
-          public boolean matches(TypeLiteral<?> typeLiteral) {
-            Type type = typeLiteral.getType();
-            if (!(type instanceof Class)) {
-              return false;
-            }
-            Class<?> clazz = (Class<?>) type;
-            return typeMatcher.matches(clazz);
-          }
+    internalConvertToTypes(injector, classMatcher(typeMatcher), converter);
+  }
 
-          @Override
-          public String toString() {
-            return typeMatcher.toString();
-          }
-        },
-        converter);
+  private static Matcher<TypeLiteral<?>> classMatcher(final Matcher<? super Class<?>> typeMatcher) {
+    return new AbstractMatcher<TypeLiteral<?>>() {
+      @Override
+      public boolean matches(TypeLiteral<?> typeLiteral) {
+        Type type = typeLiteral.getType();
+        if (!(type instanceof Class)) {
+          return false;
+        }
+        Class<?> clazz = (Class<?>) type;
+        return typeMatcher.matches(clazz);
+      }
+
+      @Override
+      public String toString() {
+        return typeMatcher.toString();
+      }
+    };
   }
 
   private static void internalConvertToTypes(
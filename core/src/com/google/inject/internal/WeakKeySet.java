@@ -28,6 +28,7 @@ import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
 import com.google.inject.Key;
 import com.google.inject.internal.util.SourceProvider;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,20 +39,21 @@ import java.util.Set;
  */
 final class WeakKeySet {
 
-  private Map<Key<?>, Multiset<Object>> backingMap;
+  /** The banned keys and their sources. Guarded by {@link #lock}, like the rest of this set. */
+  private final Map<Key<?>, Multiset<Object>> backingMap = Maps.newHashMap();
 
   /**
-   * This is already locked externally on add and getSources but we need it to handle clean up in
-   * the evictionCache's RemovalListener.
+   * This is already locked externally on add, contains and getSources but we need it to handle
+   * clean up in the evictionCache's RemovalListener.
    */
   private final Object lock;
 
   /**
    * Tracks child injector lifetimes and evicts blacklisted keys/sources after the child injector is
-   * garbage collected.
+   * garbage collected. Created lazily, since most injectors never have children of their own.
+   * Guarded by {@link #lock}.
    */
-  private final Cache<InjectorBindingData, Set<KeyAndSource>> evictionCache =
-      CacheBuilder.newBuilder().weakKeys().removalListener(this::cleanupOnRemoval).build();
+  private Cache<InjectorBindingData, Set<KeyAndSource>> evictionCache;
 
   private void cleanupOnRemoval(
       RemovalNotification<InjectorBindingData, Set<KeyAndSource>> notification) {
@@ -77,9 +79,6 @@ final class WeakKeySet {
   }
 
   public void add(Key<?> key, InjectorBindingData state, Object source) {
-    if (backingMap == null) {
-      backingMap = Maps.newHashMap();
-    }
     // if it's an instanceof Class, it was a JIT binding, which we don't
     // want to retain.
     if (source instanceof Class || source == SourceProvider.UNKNOWN_SOURCE) {
@@ -90,6 +89,10 @@ final class WeakKeySet {
 
     // Avoid all the extra work if we can.
     if (state.parent().isPresent()) {
+      if (evictionCache == null) {
+        evictionCache =
+            CacheBuilder.newBuilder().weakKeys().removalListener(this::cleanupOnRemoval).build();
+      }
       Set<KeyAndSource> keyAndSources = evictionCache.getIfPresent(state);
       if (keyAndSources == null) {
         evictionCache.put(state, keyAndSources = Sets.newHashSet());
@@ -99,14 +102,35 @@ final class WeakKeySet {
   }
 
   public boolean contains(Key<?> key) {
-    evictionCache.cleanUp();
-    return backingMap != null && backingMap.containsKey(key);
+    if (!backingMap.containsKey(key)) {
+      return false;
+    }
+    // The key may only be banned by child injectors that have since been collected.
+    cleanUp();
+    return backingMap.containsKey(key);
   }
 
+  /**
+   * Returns a copy of the sources that banned {@code key}, or null if it isn't banned. It's a copy
+   * because callers report the sources after releasing the lock, when collected child injectors
+   * may be removing theirs.
+   */
   public Set<Object> getSources(Key<?> key) {
-    evictionCache.cleanUp();
-    Multiset<Object> sources = (backingMap == null) ? null : backingMap.get(key);
-    return (sources == null) ? null : sources.elementSet();
+    if (!backingMap.containsKey(key)) {
+      return null;
+    }
+    cleanUp();
+    Multiset<Object> sources = backingMap.get(key);
+    return (sources == null)
+        ? null
+        : Collections.unmodifiableSet(Sets.newLinkedHashSet(sources.elementSet()));
+  }
+
+  /** Removes the keys banned by child injectors that have been garbage collected. */
+  private void cleanUp() {
+    if (evictionCache != null) {
+      evictionCache.cleanUp();
+    }
   }
 
   private static final class KeyAndSource {
@@ -101,7 +101,7 @@ abstract class AbstractGlueGenerator {
   }
 
   /** Generates a unique name based on the original class name and marker. */
-  private static String proxyName(String hostName, String marker, int hash) {
+  static String proxyName(String hostName, String marker, int hash) {
     int id = ((hash & 0x000FFFFF) | (COUNTER.getAndIncrement() << 20));
     String proxyName = hostName + marker + id;
     if (proxyName.startsWith("java/") && !ClassDefining.hasPackageAccess()) {
@@ -80,11 +80,24 @@ final class BytecodeTasks {
       mv.visitVarInsn(ALOAD, 2);
       pushInteger(mv, parameterIndex++);
       mv.visitInsn(AALOAD);
-      if (parameterType.isPrimitive()) {
-        unbox(mv, Type.getType(parameterType));
-      } else {
-        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameterType));
-      }
+      castArgument(mv, parameterType);
+    }
+  }
+
+  /** Pushes local object arguments onto the Java stack, starting from the given slot. */
+  public static void castArguments(MethodVisitor mv, Class<?>[] parameterTypes, int slot) {
+    for (Class<?> parameterType : parameterTypes) {
+      mv.visitVarInsn(ALOAD, slot++);
+      castArgument(mv, parameterType);
+    }
+  }
+
+  /** Unboxes or casts the object on the Java stack to the given parameter type. */
+  public static void castArgument(MethodVisitor mv, Class<?> parameterType) {
+    if (parameterType.isPrimitive()) {
+      unbox(mv, Type.getType(parameterType));
+    } else {
+      mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameterType));
     }
   }
 
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal.aop;
+
+import static com.google.inject.internal.BytecodeGen.CIRCULAR_PROXY_BY_GUICE_MARKER;
+import static com.google.inject.internal.aop.BytecodeTasks.loadArgument;
+import static java.lang.reflect.Modifier.FINAL;
+import static java.lang.reflect.Modifier.PUBLIC;
+import static java.lang.reflect.Modifier.STATIC;
+import static org.objectweb.asm.ClassWriter.COMPUTE_MAXS;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import com.google.inject.internal.BytecodeGen;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+/**
+ * Generates circular proxies.
+ *
+ * <p>Each circular proxy implements one interface and forwards every call to a delegate, which
+ * Guice sets once the delegate has been constructed. The delegate is held by the {@link
+ * BytecodeGen.CircularProxy} superclass. Unlike the other generated classes, circular proxies
+ * refer to a Guice type, so they're only generated when it's visible from the interface's {@link
+ * ClassLoader}.
+ *
+ * <p>Circular proxies have the following pseudo-Java structure:
+ *
+ * <pre>
+ * public final class Interface$$CircularProxyByGuice
+ *   extends BytecodeGen.CircularProxy
+ *   implements Interface
+ * {
+ *   public Interface$$CircularProxyByGuice() {
+ *     super();
+ *   }
+ *
+ *   public final Result method(...) {
+ *     return ((Interface) delegate(this)).method(...);
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>This includes the {@code equals}, {@code hashCode} and {@code toString} methods, which are
+ * forwarded to the delegate like they are by JDK proxies.
+ */
+final class CircularProxyGenerator {
+
+  private static final String CIRCULAR_PROXY_TYPE =
+      Type.getInternalName(BytecodeGen.CircularProxy.class);
+
+  private static final String DELEGATE_DESCRIPTOR =
+      "(L" + CIRCULAR_PROXY_TYPE + ";)Ljava/lang/Object;";
+
+  private static final AtomicInteger COUNTER = new AtomicInteger();
+
+  private final Class<?> interfaceType;
+
+  private final String interfaceName;
+
+  private final String proxyName;
+
+  CircularProxyGenerator(Class<?> interfaceType) {
+    this.interfaceType = interfaceType;
+    this.interfaceName = Type.getInternalName(interfaceType);
+    this.proxyName = interfaceName + CIRCULAR_PROXY_BY_GUICE_MARKER + COUNTER.getAndIncrement();
+  }
+
+  /** Generates and defines the circular proxy class. */
+  Class<?> define() {
+    try {
+      return ClassDefining.define(interfaceType, generate());
+    } catch (Throwable e) {
+      throw new GlueException("Problem generating " + proxyName, e);
+    }
+  }
+
+  private byte[] generate() {
+    ClassWriter cw = new ClassWriter(COMPUTE_MAXS);
+    MethodVisitor mv;
+
+    cw.visit(
+        V1_8,
+        PUBLIC | FINAL | ACC_SUPER,
+        proxyName,
+        null,
+        CIRCULAR_PROXY_TYPE,
+        new String[] {interfaceName});
+    cw.visitSource(AbstractGlueGenerator.GENERATED_SOURCE, null);
+
+    mv = cw.visitMethod(PUBLIC, "<init>", "()V", null, null);
+    mv.visitCode();
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitMethodInsn(INVOKESPECIAL, CIRCULAR_PROXY_TYPE, "<init>", "()V", false);
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    for (Method method : forwardedMethods()) {
+      generateForwardingMethod(cw, method);
+    }
+
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  /** Returns the methods to forward, one per name and descriptor, including those of Object. */
+  private Iterable<Method> forwardedMethods() {
+    Map<String, Method> methods = new LinkedHashMap<>();
+    try {
+      addMethod(methods, Object.class.getMethod("equals", Object.class));
+      addMethod(methods, Object.class.getMethod("hashCode"));
+      addMethod(methods, Object.class.getMethod("toString"));
+    } catch (NoSuchMethodException e) {
+      throw new AssertionError(e);
+    }
+    for (Method method : interfaceType.getMethods()) {
+      if ((method.getModifiers() & STATIC) == 0) {
+        addMethod(methods, method);
+      }
+    }
+    return methods.values();
+  }
+
+  private static void addMethod(Map<String, Method> methods, Method method) {
+    methods.putIfAbsent(method.getName() + Type.getMethodDescriptor(method), method);
+  }
+
+  /** Generates a method that forwards its arguments to the same method of the delegate. */
+  private void generateForwardingMethod(ClassWriter cw, Method method) {
+    String descriptor = Type.getMethodDescriptor(method);
+    MethodVisitor mv = cw.visitMethod(PUBLIC | FINAL, method.getName(), descriptor, null, null);
+    mv.visitCode();
+
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitMethodInsn(INVOKESTATIC, CIRCULAR_PROXY_TYPE, "delegate", DELEGATE_DESCRIPTOR, false);
+    mv.visitTypeInsn(CHECKCAST, interfaceName);
+    int slot = 1;
+    for (Class<?> parameterType : method.getParameterTypes()) {
+      slot += loadArgument(mv, parameterType, slot);
+    }
+    // resolve through the proxied interface, the declaring interface might not be accessible
+    mv.visitMethodInsn(INVOKEINTERFACE, interfaceName, method.getName(), descriptor, true);
+
+    Type returnType = Type.getReturnType(method);
+    mv.visitInsn(returnType.getSort() == Type.VOID ? RETURN : returnType.getOpcode(IRETURN));
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+}
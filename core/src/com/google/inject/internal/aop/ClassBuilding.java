@@ -27,6 +27,7 @@ import com.google.inject.TypeLiteral;
 import com.google.inject.internal.BytecodeGen;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -36,7 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
-import java.util.function.BiFunction;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -240,19 +241,75 @@ public final class ClassBuilding {
     return visible;
   }
 
+  /**
+   * Returns true if the given field can be set by generated code. Final fields can only be assigned
+   * by their own class's initializers, so they're always excluded.
+   */
+  public static boolean canFastSet(Field field) {
+    int modifiers = field.getModifiers();
+    if ((modifiers & FINAL) != 0) {
+      return false;
+    }
+    if (hasPackageAccess()) {
+      // can fast-set any non-private field
+      return (modifiers & PRIVATE) == 0;
+    }
+    // can fast-set public fields of public types in public types
+    return (modifiers & PUBLIC) != 0
+        && isPublic(field.getDeclaringClass())
+        && isPublic(field.getType());
+  }
+
   private static boolean isPublic(Class<?> clazz) {
     return (clazz.getModifiers() & PUBLIC) != 0;
   }
 
+  /**
+   * Returns true if a circular proxy class can be generated for the given interface. The interface
+   * must be accessible to the generated class, and its {@link ClassLoader} must see the same {@link
+   * BytecodeGen.CircularProxy} type as Guice.
+   */
+  public static boolean canBuildCircularProxyClass(Class<?> interfaceType) {
+    ClassLoader loader = interfaceType.getClassLoader();
+    if (loader == null || !(isPublic(interfaceType) || hasPackageAccess())) {
+      return false;
+    }
+    try {
+      Class<?> marker = Class.forName(BytecodeGen.CircularProxy.class.getName(), false, loader);
+      return marker == BytecodeGen.CircularProxy.class;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Builds a circular proxy class for the given interface, which forwards calls to a delegate that
+   * is held by its {@link BytecodeGen.CircularProxy} superclass.
+   */
+  public static Class<?> buildCircularProxyClass(Class<?> interfaceType) {
+    return new CircularProxyGenerator(interfaceType).define();
+  }
+
   /** Builds a 'fast-class' invoker that uses bytecode generation in place of reflection. */
-  public static Function<String, BiFunction<Object, Object[], Object>> buildFastClass(
-      Class<?> hostClass) {
+  public static BytecodeGen.FastClassInvokers buildFastClass(Class<?> hostClass) {
     NavigableMap<String, Executable> glueMap = new TreeMap<>();
 
     visitFastConstructors(hostClass, ctor -> glueMap.put(signature(ctor), ctor));
     visitFastMethods(hostClass, method -> glueMap.put(signature(method), method));
 
-    return new FastClass(hostClass).glue(glueMap);
+    return new FastClass(hostClass).glueInvokers(glueMap);
+  }
+
+  /** Builds setters for the fields declared by the host class that can be fast-set. */
+  public static Function<String, BiConsumer<Object, Object>> buildFieldSetters(
+      Class<?> hostClass) {
+    NavigableMap<String, Field> fields = new TreeMap<>();
+    for (Field field : hostClass.getDeclaredFields()) {
+      if (canFastSet(field)) {
+        fields.put(field.getName(), field);
+      }
+    }
+    return new FieldSetterGenerator(hostClass).glueSetters(fields);
   }
 
   /** Visit all constructors for the host class that can be fast-invoked. */
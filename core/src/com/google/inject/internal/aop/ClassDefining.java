@@ -31,12 +31,13 @@ public final class ClassDefining {
   private static final Logger logger = Logger.getLogger(ClassDefining.class.getName());
 
   private static final String CLASS_DEFINING_UNSUPPORTED =
-      "Unsafe is not accessible and custom classloading is turned OFF.";
+      "Unsafe and hidden classes are not accessible and custom classloading is turned OFF.";
 
   // initialization-on-demand...
   private static class ClassDefinerHolder {
     static final ClassDefiner INSTANCE = bindClassDefiner();
     static final boolean IS_UNSAFE = INSTANCE instanceof UnsafeClassDefiner;
+    static final boolean IS_HIDDEN = INSTANCE instanceof HiddenClassDefiner;
   }
 
   /** Defines a new class relative to the host. */
@@ -46,12 +47,20 @@ public final class ClassDefining {
 
   /** Returns true if the ClassDefiner has access to package-private members. */
   public static boolean hasPackageAccess() {
-    return ClassDefinerHolder.IS_UNSAFE;
+    return ClassDefinerHolder.IS_UNSAFE || ClassDefinerHolder.IS_HIDDEN;
   }
 
   /** Does the given class host new types anonymously, meaning they are not visible by name? */
   public static boolean isAnonymousHost(Class<?> hostClass) {
-    return ClassDefinerHolder.IS_UNSAFE && UnsafeClassDefiner.isAnonymousHost(hostClass);
+    if (ClassDefinerHolder.IS_UNSAFE) {
+      return UnsafeClassDefiner.isAnonymousHost(hostClass);
+    }
+    return ClassDefinerHolder.IS_HIDDEN && HiddenClassDefiner.isHiddenHost(hostClass);
+  }
+
+  /** Does the given class host new types as hidden classes, which can refer to themselves? */
+  public static boolean isHiddenHost(Class<?> hostClass) {
+    return ClassDefinerHolder.IS_HIDDEN && HiddenClassDefiner.isHiddenHost(hostClass);
   }
 
   /** Binds the preferred {@link ClassDefiner} instance. */
@@ -60,10 +69,15 @@ public final class ClassDefining {
     CustomClassLoadingOption loadingOption = InternalFlags.getCustomClassLoadingOption();
     if (loadingOption == CustomClassLoadingOption.CHILD) {
       return new ChildClassDefiner(); // override default choice
+    } else if (loadingOption == CustomClassLoadingOption.HIDDEN
+        && HiddenClassDefiner.isAccessible()) {
+      return new HiddenClassDefiner(); // override default choice if available
     } else if (UnsafeClassDefiner.isAccessible()) {
       return new UnsafeClassDefiner(); // default choice if available
     } else if (loadingOption != CustomClassLoadingOption.OFF) {
       return new ChildClassDefiner(); // second choice unless forbidden
+    } else if (HiddenClassDefiner.isAccessible()) {
+      return new HiddenClassDefiner(); // never creates class loaders, so OFF allows it
     } else {
       logger.warning(CLASS_DEFINING_UNSUPPORTED);
       return (hostClass, bytecode) -> {
@@ -110,7 +110,8 @@ import org.objectweb.asm.Type;
  *
  *   // enhanced method
  *   public final Object instanceMethod(...) {
- *     // pack arguments and trigger the associated InterceptorStackCallback
+ *     // pack arguments (null if there are none) and trigger the associated
+ *     // InterceptorStackCallback
  *     return GUICE$HANDLERS[0].invoke(this, null, args);
  *   }
  *
@@ -168,7 +169,11 @@ final class Enhancer extends AbstractGlueGenerator {
     this.bridgeDelegates = bridgeDelegates;
 
     // CHECKCAST(proxyName) fails when hosted anonymously; hostName works in that scenario
-    this.checkcastToProxy = ClassDefining.isAnonymousHost(hostClass) ? hostName : proxyName;
+    // (hidden classes are the exception, they can refer to themselves by name)
+    this.checkcastToProxy =
+        ClassDefining.isAnonymousHost(hostClass) && !ClassDefining.isHiddenHost(hostClass)
+            ? hostName
+            : proxyName;
   }
 
   @Override
@@ -309,7 +314,13 @@ final class Enhancer extends AbstractGlueGenerator {
     mv.visitInsn(SWAP);
     // we don't use the method argument in InterceptorStackCallback.invoke, so can use null here
     mv.visitInsn(ACONST_NULL);
-    packArguments(mv, method.getParameterTypes());
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    if (parameterTypes.length > 0) {
+      packArguments(mv, parameterTypes);
+    } else {
+      // like JDK proxies, pass null rather than allocating an empty array for every call
+      mv.visitInsn(ACONST_NULL);
+    }
 
     mv.visitMethodInsn(INVOKEINTERFACE, HANDLER_TYPE, "invoke", CALLBACK_DESCRIPTOR, true);
 
@@ -17,20 +17,26 @@
 package com.google.inject.internal.aop;
 
 import static com.google.inject.internal.BytecodeGen.FASTCLASS_BY_GUICE_MARKER;
+import static com.google.inject.internal.BytecodeGen.MAX_DIRECT_INVOKER_ARITY;
 import static com.google.inject.internal.aop.BytecodeTasks.box;
+import static com.google.inject.internal.aop.BytecodeTasks.castArguments;
+import static com.google.inject.internal.aop.BytecodeTasks.pushInteger;
 import static com.google.inject.internal.aop.BytecodeTasks.unpackArguments;
 import static java.lang.reflect.Modifier.FINAL;
 import static java.lang.reflect.Modifier.PRIVATE;
 import static java.lang.reflect.Modifier.PUBLIC;
 import static java.lang.reflect.Modifier.STATIC;
 import static org.objectweb.asm.ClassWriter.COMPUTE_MAXS;
+import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
 import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.H_NEWINVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
@@ -43,11 +49,18 @@ import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_8;
 
+import com.google.inject.internal.BytecodeGen;
+import com.google.inject.internal.BytecodeGen.FastClassInvokers;
 import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Handle;
 import org.objectweb.asm.MethodVisitor;
@@ -63,6 +76,11 @@ import org.objectweb.asm.Type;
  *
  * <p>A handle to the fast-class constructor is used as the invoker table, mapping index to invoker.
  *
+ * <p>Constructors and methods with at most {@link BytecodeGen#MAX_DIRECT_INVOKER_ARITY} parameters
+ * also get a direct invoker: a static method that takes the context object followed by each
+ * argument, so callers don't need to allocate an argument array. Handles to the direct invokers
+ * are kept in a shared array, in the same order as the trampoline.
+ *
  * <p>Fast-classes have the following pseudo-Java structure:
  *
  * <pre>
@@ -93,6 +111,10 @@ import org.objectweb.asm.Type;
  *     }
  *     return null;
  *   }
+ *
+ *   public static Object GUICE$DIRECT$1(Object context, Object arg0, Object arg1) {
+ *     return ((HostClass) context).instanceMethod((Arg0) arg0, (Arg1) arg1);
+ *   }
  * }
  * </pre>
  *
@@ -114,8 +136,17 @@ final class FastClass extends AbstractGlueGenerator {
 
   private static final String OBJECT_ARRAY_TYPE = Type.getInternalName(Object[].class);
 
+  private static final String DIRECT_INVOKERS_NAME = "GUICE$DIRECT_INVOKERS";
+
+  private static final String DIRECT_INVOKERS_DESCRIPTOR = "[Ljava/lang/invoke/MethodHandle;";
+
+  private static final String DIRECT_INVOKER_PREFIX = "GUICE$DIRECT$";
+
   private final boolean hostIsInterface;
 
+  /** Handles to the direct invokers, indexed like the trampoline; set when the glue is defined. */
+  private MethodHandle[] directInvokers;
+
   FastClass(Class<?> hostClass) {
     super(hostClass, FASTCLASS_BY_GUICE_MARKER);
     hostIsInterface = hostClass.isInterface();
@@ -134,7 +165,12 @@ final class FastClass extends AbstractGlueGenerator {
     cw.visitField(PUBLIC | STATIC | FINAL, INVOKERS_NAME, INVOKERS_DESCRIPTOR, null, null)
         .visitEnd();
 
-    setupInvokerTable(cw);
+    // this shared field contains handles to the direct invokers
+    cw.visitField(
+            PUBLIC | STATIC | FINAL, DIRECT_INVOKERS_NAME, DIRECT_INVOKERS_DESCRIPTOR, null, null)
+        .visitEnd();
+
+    setupInvokerTable(cw, members);
 
     cw.visitField(PRIVATE | FINAL, "index", "I", null, null).visitEnd();
 
@@ -167,12 +203,23 @@ final class FastClass extends AbstractGlueGenerator {
 
     generateTrampoline(cw, members);
 
+    int index = 0;
+    for (Executable member : members) {
+      if (hasDirectInvoker(member)) {
+        generateDirectInvoker(cw, member, index);
+      }
+      index++;
+    }
+
     cw.visitEnd();
     return cw.toByteArray();
   }
 
-  /** Generate static initializer to setup invoker table based on the fast-class constructor. */
-  private void setupInvokerTable(ClassWriter cw) {
+  /**
+   * Generate static initializer to setup invoker table based on the fast-class constructor, along
+   * with the array of direct invoker handles.
+   */
+  private void setupInvokerTable(ClassWriter cw, Collection<Executable> members) {
     MethodVisitor mv = cw.visitMethod(PRIVATE | STATIC, "<clinit>", "()V", null, null);
     mv.visitCode();
 
@@ -191,31 +238,101 @@ final class FastClass extends AbstractGlueGenerator {
 
     mv.visitFieldInsn(PUTSTATIC, proxyName, INVOKERS_NAME, INVOKERS_DESCRIPTOR);
 
+    pushInteger(mv, members.size());
+    mv.visitTypeInsn(ANEWARRAY, "java/lang/invoke/MethodHandle");
+    int index = 0;
+    for (Executable member : members) {
+      if (hasDirectInvoker(member)) {
+        mv.visitInsn(DUP);
+        pushInteger(mv, index);
+        mv.visitLdcInsn(
+            new Handle(
+                H_INVOKESTATIC,
+                proxyName,
+                DIRECT_INVOKER_PREFIX + index,
+                directInvokerDescriptor(member),
+                false));
+        mv.visitInsn(AASTORE);
+      }
+      index++;
+    }
+    mv.visitFieldInsn(PUTSTATIC, proxyName, DIRECT_INVOKERS_NAME, DIRECT_INVOKERS_DESCRIPTOR);
+
     mv.visitInsn(RETURN);
     mv.visitMaxs(0, 0);
     mv.visitEnd();
   }
 
+  /** Does the given member get a direct invoker, which takes its arguments without an array? */
+  private static boolean hasDirectInvoker(Executable member) {
+    return member.getParameterCount() <= MAX_DIRECT_INVOKER_ARITY;
+  }
+
+  /** Returns the descriptor of a direct invoker: the context object, then each argument. */
+  private static String directInvokerDescriptor(Executable member) {
+    StringBuilder descriptor = new StringBuilder("(Ljava/lang/Object;");
+    for (int i = 0; i < member.getParameterCount(); i++) {
+      descriptor.append("Ljava/lang/Object;");
+    }
+    return descriptor.append(")Ljava/lang/Object;").toString();
+  }
+
+  /** Generate direct invoker that takes a context object and each argument in its own local. */
+  private void generateDirectInvoker(ClassWriter cw, Executable member, int index) {
+    MethodVisitor mv =
+        cw.visitMethod(
+            PUBLIC | STATIC,
+            DIRECT_INVOKER_PREFIX + index,
+            directInvokerDescriptor(member),
+            null,
+            null);
+    mv.visitCode();
+    if (member instanceof Constructor<?>) {
+      invokeConstructor(mv, (Constructor<?>) member, true);
+    } else {
+      invokeMethod(mv, (Method) member, true);
+    }
+    mv.visitInsn(ARETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
   @Override
   protected void generateConstructorInvoker(MethodVisitor mv, Constructor<?> constructor) {
+    invokeConstructor(mv, constructor, false);
+  }
+
+  @Override
+  protected void generateMethodInvoker(MethodVisitor mv, Method method) {
+    invokeMethod(mv, method, false);
+  }
+
+  /**
+   * Calls the constructor, taking arguments from the array in the trampoline or from the locals
+   * after the context object in a direct invoker.
+   */
+  private void invokeConstructor(MethodVisitor mv, Constructor<?> constructor, boolean direct) {
     mv.visitTypeInsn(NEW, hostName);
     mv.visitInsn(DUP);
 
     // fast-class constructor invokers don't use the context object
 
-    unpackArguments(mv, constructor.getParameterTypes());
+    pushArguments(mv, constructor.getParameterTypes(), direct);
 
     mv.visitMethodInsn(
         INVOKESPECIAL, hostName, "<init>", Type.getConstructorDescriptor(constructor), false);
   }
 
-  @Override
-  protected void generateMethodInvoker(MethodVisitor mv, Method method) {
+  /**
+   * Calls the method, taking arguments from the array in the trampoline or from the locals after
+   * the context object in a direct invoker.
+   */
+  private void invokeMethod(MethodVisitor mv, Method method, boolean direct) {
 
     int invokeOpcode;
     if ((method.getModifiers() & STATIC) == 0) {
       // context object is the instance whose method we want to call
-      mv.visitVarInsn(ALOAD, 1);
+      mv.visitVarInsn(ALOAD, direct ? 0 : 1);
       mv.visitTypeInsn(CHECKCAST, hostName);
       invokeOpcode = hostIsInterface ? INVOKEINTERFACE : INVOKEVIRTUAL;
     } else {
@@ -223,7 +340,7 @@ final class FastClass extends AbstractGlueGenerator {
       invokeOpcode = INVOKESTATIC;
     }
 
-    unpackArguments(mv, method.getParameterTypes());
+    pushArguments(mv, method.getParameterTypes(), direct);
 
     mv.visitMethodInsn(
         invokeOpcode,
@@ -240,8 +357,55 @@ final class FastClass extends AbstractGlueGenerator {
     }
   }
 
+  private static void pushArguments(MethodVisitor mv, Class<?>[] parameterTypes, boolean direct) {
+    if (direct) {
+      castArguments(mv, parameterTypes, 1);
+    } else {
+      unpackArguments(mv, parameterTypes);
+    }
+  }
+
   @Override
   protected MethodHandle lookupInvokerTable(Class<?> glueClass) throws Throwable {
+    directInvokers = (MethodHandle[]) glueClass.getField(DIRECT_INVOKERS_NAME).get(null);
     return (MethodHandle) glueClass.getField(INVOKERS_NAME).get(null);
   }
+
+  /** Generates the fast-class and returns its invokers, mapped from member signatures. */
+  FastClassInvokers glueInvokers(NavigableMap<String, Executable> glueMap) {
+    Function<String, BiFunction<Object, Object[], Object>> invokers = glue(glueMap);
+    // direct invokers are in trampoline order, which is the order of the sorted signatures
+    Map<String, MethodHandle> directInvokersBySignature = new HashMap<>();
+    int index = 0;
+    for (String signature : glueMap.keySet()) {
+      if (directInvokers[index] != null) {
+        directInvokersBySignature.put(signature, directInvokers[index]);
+      }
+      index++;
+    }
+    return new Invokers(invokers, directInvokersBySignature);
+  }
+
+  /** Array and direct invokers of a fast-class. */
+  private static final class Invokers implements FastClassInvokers {
+    private final Function<String, BiFunction<Object, Object[], Object>> invokers;
+    private final Map<String, MethodHandle> directInvokers;
+
+    Invokers(
+        Function<String, BiFunction<Object, Object[], Object>> invokers,
+        Map<String, MethodHandle> directInvokers) {
+      this.invokers = invokers;
+      this.directInvokers = directInvokers;
+    }
+
+    @Override
+    public BiFunction<Object, Object[], Object> apply(String signature) {
+      return invokers.apply(signature);
+    }
+
+    @Override
+    public MethodHandle directInvoker(String signature) {
+      return directInvokers.get(signature);
+    }
+  }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal.aop;
+
+import static com.google.inject.internal.BytecodeGen.FIELD_SETTERS_BY_GUICE_MARKER;
+import static com.google.inject.internal.aop.BytecodeTasks.castArgument;
+import static java.lang.reflect.Modifier.FINAL;
+import static java.lang.reflect.Modifier.PRIVATE;
+import static java.lang.reflect.Modifier.PUBLIC;
+import static java.lang.reflect.Modifier.STATIC;
+import static org.objectweb.asm.ClassWriter.COMPUTE_MAXS;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.F_SAME;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.H_NEWINVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.PUTSTATIC;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+/**
+ * Generates field setters.
+ *
+ * <p>Each field-setter class has a single constructor that takes an index, like a fast-class. Its
+ * instances are {@link BiConsumer}s that accept an instance of the host class, which is ignored
+ * for static fields, and the value to assign to the indexed field. Like the other glue classes they
+ * don't refer to Guice types, so they can be loaded anywhere that can see the host class.
+ *
+ * <p>Field-setter classes have the following pseudo-Java structure:
+ *
+ * <pre>
+ * public final class HostClass$$FieldSettersByGuice
+ *   implements BiConsumer // each instance sets one field
+ * {
+ *   private final int index; // the bound field index
+ *
+ *   public HostClass$$FieldSettersByGuice(int index) {
+ *     this.index = index;
+ *   }
+ *
+ *   public void accept(Object instance, Object value) {
+ *     switch (index) {
+ *       case 0: {
+ *         ((HostClass) instance).instanceField = (FieldType) value;
+ *         return;
+ *       }
+ *       case 1: {
+ *         HostClass.staticField = ((Integer) value).intValue();
+ *         return;
+ *       }
+ *     }
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>Final fields can't be assigned outside their class's initializers, so they're never included.
+ */
+final class FieldSetterGenerator {
+
+  private static final String[] FIELD_SETTER_API = {"java/util/function/BiConsumer"};
+
+  private static final String SETTERS_NAME = "GUICE$SETTERS";
+
+  private static final String SETTERS_DESCRIPTOR = "Ljava/lang/invoke/MethodHandle;";
+
+  private static final Type INDEX_TO_SETTER_METHOD_TYPE =
+      Type.getMethodType("(I)Ljava/util/function/BiConsumer;");
+
+  private final Class<?> hostClass;
+
+  private final String hostName;
+
+  private final String proxyName;
+
+  FieldSetterGenerator(Class<?> hostClass) {
+    this.hostClass = hostClass;
+    this.hostName = Type.getInternalName(hostClass);
+    this.proxyName =
+        AbstractGlueGenerator.proxyName(hostName, FIELD_SETTERS_BY_GUICE_MARKER, hashCode());
+  }
+
+  /** Generates the field-setter class and returns a mapping from field name to setter. */
+  @SuppressWarnings("unchecked") // the setter table only creates BiConsumers
+  Function<String, BiConsumer<Object, Object>> glueSetters(NavigableMap<String, Field> fields) {
+    if (fields.isEmpty()) {
+      return name -> null;
+    }
+    Map<String, BiConsumer<Object, Object>> setters = new HashMap<>();
+    try {
+      byte[] bytecode = generateGlue(fields.values());
+      Class<?> glueClass = ClassDefining.define(hostClass, bytecode);
+      MethodHandle setterTable = (MethodHandle) glueClass.getField(SETTERS_NAME).get(null);
+      int index = 0;
+      for (String name : fields.keySet()) {
+        setters.put(name, (BiConsumer<Object, Object>) setterTable.invokeExact(index++));
+      }
+    } catch (Throwable e) {
+      throw new GlueException("Problem generating " + proxyName, e);
+    }
+    return setters::get;
+  }
+
+  private byte[] generateGlue(Collection<Field> fields) {
+    ClassWriter cw = new ClassWriter(COMPUTE_MAXS);
+    MethodVisitor mv;
+
+    cw.visit(
+        V1_8, PUBLIC | FINAL | ACC_SUPER, proxyName, null, "java/lang/Object", FIELD_SETTER_API);
+    cw.visitSource(AbstractGlueGenerator.GENERATED_SOURCE, null);
+
+    // this shared field contains the constructor handle adapted to look like a setter table
+    cw.visitField(PUBLIC | STATIC | FINAL, SETTERS_NAME, SETTERS_DESCRIPTOR, null, null).visitEnd();
+
+    mv = cw.visitMethod(PRIVATE | STATIC, "<clinit>", "()V", null, null);
+    mv.visitCode();
+    mv.visitLdcInsn(new Handle(H_NEWINVOKESPECIAL, proxyName, "<init>", "(I)V", false));
+    // adapt constructor handle to make it look like a setter table (int -> BiConsumer)
+    mv.visitLdcInsn(INDEX_TO_SETTER_METHOD_TYPE);
+    mv.visitMethodInsn(
+        INVOKEVIRTUAL,
+        "java/lang/invoke/MethodHandle",
+        "asType",
+        "(Ljava/lang/invoke/MethodType;)Ljava/lang/invoke/MethodHandle;",
+        false);
+    mv.visitFieldInsn(PUTSTATIC, proxyName, SETTERS_NAME, SETTERS_DESCRIPTOR);
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    cw.visitField(PRIVATE | FINAL, "index", "I", null, null).visitEnd();
+
+    // field-setter constructor that takes an index and binds it
+    mv = cw.visitMethod(PUBLIC, "<init>", "(I)V", null, null);
+    mv.visitCode();
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitInsn(DUP);
+    mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+    mv.visitVarInsn(ILOAD, 1);
+    mv.visitFieldInsn(PUTFIELD, proxyName, "index", "I");
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    generateSetter(cw, fields);
+
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  /** Generate setter function that assigns the value to the field with the bound index. */
+  private void generateSetter(ClassWriter cw, Collection<Field> fields) {
+    MethodVisitor mv =
+        cw.visitMethod(PUBLIC, "accept", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+    mv.visitCode();
+
+    Label[] labels = new Label[fields.size()];
+    Arrays.setAll(labels, i -> new Label());
+    Label defaultLabel = new Label();
+
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitFieldInsn(GETFIELD, proxyName, "index", "I");
+    mv.visitTableSwitchInsn(0, labels.length - 1, defaultLabel, labels);
+
+    int labelIndex = 0;
+    for (Field field : fields) {
+      mv.visitLabel(labels[labelIndex++]);
+      mv.visitFrame(F_SAME, 0, null, 0, null);
+      boolean isStatic = (field.getModifiers() & STATIC) != 0;
+      if (!isStatic) {
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, hostName);
+      }
+      mv.visitVarInsn(ALOAD, 2);
+      castArgument(mv, field.getType());
+      mv.visitFieldInsn(
+          isStatic ? PUTSTATIC : PUTFIELD,
+          hostName,
+          field.getName(),
+          Type.getDescriptor(field.getType()));
+      mv.visitInsn(RETURN);
+    }
+
+    mv.visitLabel(defaultLabel);
+    mv.visitFrame(F_SAME, 0, null, 0, null);
+    mv.visitInsn(RETURN);
+
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal.aop;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.google.inject.internal.util.Classes;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Array;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link ClassDefiner} that defines classes as hidden classes using {@code
+ * Lookup.defineHiddenClass}, available from Java 15 onwards. Hidden classes share the class loader
+ * and package of their host without being visible by name, and can be unloaded as soon as they're
+ * no longer used.
+ *
+ * <p>Defining a hidden class needs a lookup with full privilege access to the host, which {@code
+ * MethodHandles.privateLookupIn} only grants for hosts in the same module as Guice. Classes loaded
+ * by other class loaders are in other (unnamed) modules, so they get a regular class defined with
+ * {@code Lookup.defineClass} in their package and class loader instead.
+ */
+final class HiddenClassDefiner implements ClassDefiner {
+
+  private static final Logger logger = Logger.getLogger(HiddenClassDefiner.class.getName());
+
+  /** {@code Lookup.MODULE}, which was added in Java 9. */
+  private static final int MODULE = 0x10;
+
+  private static final MethodHandle PRIVATE_LOOKUP_IN = bindPrivateLookupIn();
+
+  private static final MethodHandle DEFINE_HIDDEN_CLASS = bindDefineHiddenClass();
+
+  private static final MethodHandle DEFINE_CLASS = bindDefineClass();
+
+  /**
+   * Private lookups for each host, computed once per host. Lookups reference Guice's classes, so
+   * only hosts that can't outlive Guice are cached, see {@link Classes#isLoadedWithGuice}.
+   */
+  private static final ClassValue<Lookup> HOST_LOOKUPS =
+      new ClassValue<Lookup>() {
+        @Override
+        protected Lookup computeValue(Class<?> hostClass) {
+          return privateLookupIn(hostClass);
+        }
+      };
+
+  /** Returns a private lookup in the given host, or {@code null} if access is denied. */
+  private static Lookup hostLookup(Class<?> hostClass) {
+    return Classes.isLoadedWithGuice(hostClass)
+        ? HOST_LOOKUPS.get(hostClass)
+        : privateLookupIn(hostClass);
+  }
+
+  private static Lookup privateLookupIn(Class<?> hostClass) {
+    try {
+      return (Lookup) PRIVATE_LOOKUP_IN.invokeExact(hostClass, MethodHandles.lookup());
+    } catch (Throwable e) {
+      logger.log(Level.FINE, "Cannot get private lookup in " + hostClass, e);
+      return null;
+    }
+  }
+
+  /** Do we have access to {@code Lookup.defineHiddenClass}? */
+  public static boolean isAccessible() {
+    return DEFINE_HIDDEN_CLASS != null;
+  }
+
+  /** Does the given class host new types as hidden classes, ie. by using defineHiddenClass? */
+  public static boolean isHiddenHost(Class<?> hostClass) {
+    Lookup lookup = hostLookup(hostClass);
+    return lookup != null && (lookup.lookupModes() & MODULE) != 0;
+  }
+
+  @Override
+  public Class<?> define(Class<?> hostClass, byte[] bytecode) throws Exception {
+    Lookup lookup = hostLookup(hostClass);
+    if (lookup == null) {
+      throw new IllegalAccessException("Cannot get private lookup in " + hostClass);
+    }
+    try {
+      if ((lookup.lookupModes() & MODULE) != 0) {
+        Lookup hiddenLookup = (Lookup) DEFINE_HIDDEN_CLASS.invokeExact(lookup, bytecode);
+        return hiddenLookup.lookupClass();
+      }
+      return (Class<?>) DEFINE_CLASS.invokeExact(lookup, bytecode);
+    } catch (Exception | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static MethodHandle bindPrivateLookupIn() {
+    try {
+      return MethodHandles.publicLookup()
+          .findStatic(
+              MethodHandles.class,
+              "privateLookupIn",
+              methodType(Lookup.class, Class.class, Lookup.class));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      logger.log(Level.FINE, "Cannot bind MethodHandles.privateLookupIn", e);
+      return null;
+    }
+  }
+
+  private static MethodHandle bindDefineHiddenClass() {
+    if (PRIVATE_LOOKUP_IN == null) {
+      return null;
+    }
+    try {
+      Class<?> classOptionType = Class.forName(Lookup.class.getName() + "$ClassOption");
+      Class<?> classOptionArrayType = Array.newInstance(classOptionType, 0).getClass();
+      MethodHandle defineHiddenClass =
+          MethodHandles.publicLookup()
+              .findVirtual(
+                  Lookup.class,
+                  "defineHiddenClass",
+                  methodType(Lookup.class, byte[].class, boolean.class, classOptionArrayType));
+      // initialize the hidden class straight away, without any extra class options
+      return MethodHandles.insertArguments(
+          defineHiddenClass, 2, true, Array.newInstance(classOptionType, 0));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      logger.log(Level.FINE, "Cannot bind Lookup.defineHiddenClass", e);
+      return null;
+    }
+  }
+
+  private static MethodHandle bindDefineClass() {
+    if (DEFINE_HIDDEN_CLASS == null) {
+      return null;
+    }
+    try {
+      return MethodHandles.publicLookup()
+          .findVirtual(Lookup.class, "defineClass", methodType(Class.class, byte[].class));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      logger.log(Level.FINE, "Cannot bind Lookup.defineClass", e);
+      return null;
+    }
+  }
+}
@@ -27,6 +27,36 @@ import java.lang.reflect.Modifier;
 /** Class utilities. */
 public final class Classes {
 
+  /** Whether each class was loaded by Guice's class loader or one of its descendants. */
+  private static final ClassValue<Boolean> LOADED_WITH_GUICE =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          ClassLoader guiceLoader = Classes.class.getClassLoader();
+          if (guiceLoader == null) {
+            return true; // Guice is on the boot class path, so it is never unloaded
+          }
+          for (ClassLoader loader = type.getClassLoader();
+              loader != null;
+              loader = loader.getParent()) {
+            if (loader == guiceLoader) {
+              return true;
+            }
+          }
+          return false;
+        }
+      };
+
+  /**
+   * Returns true if {@code type} was loaded by Guice's class loader or one of its descendants, so
+   * it can't outlive Guice. Only such classes may hold Guice objects in a {@link ClassValue}: a
+   * value stored on a class from a parent or unrelated loader, such as {@code java.lang.String},
+   * keeps Guice's class loader alive for as long as that class is loaded.
+   */
+  public static boolean isLoadedWithGuice(Class<?> type) {
+    return LOADED_WITH_GUICE.get(type);
+  }
+
   public static boolean isInnerClass(Class<?> clazz) {
     return !Modifier.isStatic(clazz.getModifiers()) && clazz.getEnclosingClass() != null;
   }
@@ -19,6 +19,7 @@ package com.google.inject.internal.util;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import com.google.common.base.Stopwatch;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -52,6 +53,9 @@ public final class ContinuousStopwatch {
 
   /** Resets and logs elapsed time in milliseconds. */
   public void resetAndLog(String label) {
-    logger.fine(label + ": " + reset() + "ms");
+    long elapsedTimeMs = reset();
+    if (logger.isLoggable(Level.FINE)) {
+      logger.fine(label + ": " + elapsedTimeMs + "ms");
+    }
   }
 }
@@ -44,7 +44,12 @@ final class LineNumbers {
 
   private static final int ASM_API_LEVEL = Opcodes.ASM7;
 
-  private final Class<?> type;
+  /**
+   * The name of the class, rather than the class itself, which would keep the class from being
+   * unloaded while it is softly cached in {@link StackTraceElements}.
+   */
+  private final String typeName;
+
   private final Map<String, Integer> lines = Maps.newHashMap();
   private String source;
   private int firstLine = Integer.MAX_VALUE;
@@ -55,7 +60,7 @@ final class LineNumbers {
    * @param type the class to read line number information from
    */
   public LineNumbers(Class<?> type) throws IOException {
-    this.type = type;
+    this.typeName = type.getName();
 
     if (!type.isArray()) {
       InputStream in = null;
@@ -100,11 +105,11 @@ final class LineNumbers {
    */
   public Integer getLineNumber(Member member) {
     Preconditions.checkArgument(
-        type == member.getDeclaringClass(),
+        typeName.equals(member.getDeclaringClass().getName()),
         "Member %s belongs to %s, not %s",
         member,
-        member.getDeclaringClass(),
-        type);
+        member.getDeclaringClass().getName(),
+        typeName);
     return lines.get(memberKey(member));
   }
 
@@ -183,6 +183,29 @@ public class MapBinder<K, V> {
     return this;
   }
 
+  /**
+   * Configures the {@code MapBinder} to inject a {@code Map<K, V>} that provisions each value only
+   * when it is read, rather than every value whenever the map is injected. This is useful for large
+   * maps of which callers only look up a few entries.
+   *
+   * <p>Each injected map is an unmodifiable view with the same keys as an eagerly provisioned map.
+   * The first read of a key provisions its value, honoring the value's scope, and later reads of
+   * that key from the same map return the same value. Reads of every value, like iterating over
+   * {@code values()} or {@code entrySet()}, {@code equals}, {@code hashCode} and {@code toString},
+   * provision all values not read yet. A null value causes a {@link
+   * com.google.inject.ProvisionException} on access rather than on injection. Duplicate keys are
+   * still reported when the injector is created.
+   *
+   * <p>When multiple modules contribute elements to the map, this configuration option impacts all
+   * of them.
+   *
+   * @return this map binder
+   */
+  public MapBinder<K, V> lazyValues() {
+    delegate.lazyValues();
+    return this;
+  }
+
   /**
    * Returns a binding builder used to add a new entry in the map. Each key must be distinct (and
    * non-null). Bound providers will be evaluated each time the map is injected.
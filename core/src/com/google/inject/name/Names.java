@@ -18,7 +18,10 @@ package com.google.inject.name;
 
 import com.google.inject.Binder;
 import com.google.inject.Key;
+import com.google.inject.internal.PropertiesBinder;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -39,11 +42,15 @@ public class Names {
   /** Creates a constant binding to {@code @Named(key)} for each entry in {@code properties}. */
   public static void bindProperties(Binder binder, Map<String, String> properties) {
     binder = binder.skipSources(Names.class);
+    String[] names = new String[properties.size()];
+    String[] values = new String[names.length];
+    int i = 0;
     for (Map.Entry<String, String> entry : properties.entrySet()) {
-      String key = entry.getKey();
-      String value = entry.getValue();
-      binder.bind(Key.get(String.class, new NamedImpl(key))).toInstance(value);
+      names[i] = entry.getKey();
+      values[i] = entry.getValue();
+      i++;
     }
+    bindProperties(binder, names, values);
   }
 
   /**
@@ -54,10 +61,24 @@ public class Names {
     binder = binder.skipSources(Names.class);
 
     // use enumeration to include the default properties
+    List<String> names = new ArrayList<>();
     for (Enumeration<?> e = properties.propertyNames(); e.hasMoreElements(); ) {
-      String propertyName = (String) e.nextElement();
-      String value = properties.getProperty(propertyName);
-      binder.bind(Key.get(String.class, new NamedImpl(propertyName))).toInstance(value);
+      names.add((String) e.nextElement());
+    }
+    String[] values = new String[names.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = properties.getProperty(names.get(i));
+    }
+    bindProperties(binder, names.toArray(new String[0]), values);
+  }
+
+  private static void bindProperties(Binder binder, String[] names, String[] values) {
+    if (binder instanceof PropertiesBinder) {
+      ((PropertiesBinder) binder).bindProperties(names, values);
+      return;
+    }
+    for (int i = 0; i < names.length; i++) {
+      binder.bind(Key.get(String.class, new NamedImpl(names[i]))).toInstance(values[i]);
     }
   }
 }
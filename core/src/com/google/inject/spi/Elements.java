@@ -49,6 +49,7 @@ import com.google.inject.internal.GuiceInternal;
 import com.google.inject.internal.InternalFlags.IncludeStackTraceOption;
 import com.google.inject.internal.MoreTypes;
 import com.google.inject.internal.PrivateElementsImpl;
+import com.google.inject.internal.PropertiesBinder;
 import com.google.inject.internal.ProviderMethod;
 import com.google.inject.internal.ProviderMethodsModule;
 import com.google.inject.internal.util.SourceProvider;
@@ -171,7 +172,7 @@ public final class Elements {
     }
   }
 
-  private static class RecordingBinder implements Binder, PrivateBinder {
+  private static class RecordingBinder implements Binder, PrivateBinder, PropertiesBinder {
     private final Stage stage;
     private final Map<Module, ModuleInfo> modules;
     private final List<Element> elements;
@@ -493,6 +494,11 @@ public final class Elements {
       return bind(Key.get(type));
     }
 
+    @Override
+    public void bindProperties(String[] names, String[] values) {
+      BindingBuilder.bindProperties(this, elements, getElementSource(), names, values);
+    }
+
     @Override
     public AnnotatedConstantBindingBuilder bindConstant() {
       return new ConstantBindingBuilderImpl<Void>(this, elements, getElementSource());
@@ -19,6 +19,7 @@ package com.google.inject.spi;
 import static com.google.inject.internal.MoreTypes.getRawType;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
@@ -30,6 +31,7 @@ import com.google.inject.internal.Annotations;
 import com.google.inject.internal.DeclaredMembers;
 import com.google.inject.internal.Errors;
 import com.google.inject.internal.ErrorsException;
+import com.google.inject.internal.MoreTypes;
 import com.google.inject.internal.Nullability;
 import com.google.inject.internal.util.Classes;
 import java.lang.annotation.Annotation;
@@ -46,11 +48,11 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * A constructor, field or method that can receive injections. Typically this is a member with the
@@ -147,7 +149,7 @@ public final class InjectionPoint {
 
   // This metohd is necessary to create a Dependency<T> with proper generic type information
   private <T> Dependency<T> newDependency(Key<T> key, boolean allowsNull, int parameterIndex) {
-    return new Dependency<T>(this, key, allowsNull, parameterIndex);
+    return new Dependency<T>(this, MoreTypes.canonicalizeKey(key), allowsNull, parameterIndex);
   }
 
   /** Returns the injected constructor, field, or method. */
@@ -279,13 +281,7 @@ public final class InjectionPoint {
     Class<?> rawType = getRawType(type.getType());
     Errors errors = new Errors(rawType);
 
-    List<Constructor<?>> atInjectConstructors =
-        Arrays.stream(rawType.getDeclaredConstructors())
-            .filter(
-                constructor ->
-                    constructor.isAnnotationPresent(Inject.class)
-                        || constructor.isAnnotationPresent(javax.inject.Inject.class))
-            .collect(Collectors.toList());
+    List<Constructor<?>> atInjectConstructors = Arrays.asList(AT_INJECT_CONSTRUCTORS.get(rawType));
 
     Constructor<?> injectableConstructor = null;
     atInjectConstructors.stream()
@@ -311,8 +307,8 @@ public final class InjectionPoint {
     }
 
     // If no annotated constructor is found, look for a no-arg constructor instead.
-    try {
-      Constructor<?> noArgConstructor = rawType.getDeclaredConstructor();
+    Constructor<?> noArgConstructor = NO_ARG_CONSTRUCTORS.get(rawType).orElse(null);
+    if (noArgConstructor != null) {
 
       // Disallow private constructors on non-private classes (unless they have @Inject)
       if (Modifier.isPrivate(noArgConstructor.getModifiers())
@@ -323,12 +319,42 @@ public final class InjectionPoint {
 
       checkForMisplacedBindingAnnotations(noArgConstructor, errors);
       return new InjectionPoint(type, noArgConstructor);
-    } catch (NoSuchMethodException e) {
+    } else {
       errors.missingConstructor(type);
       throw new ConfigurationException(errors.getMessages());
     }
   }
 
+  /**
+   * The constructors of each class annotated with either {@code @Inject}. The values are plain
+   * reflection objects because JDK classes hold them too, see {@link Classes#isLoadedWithGuice}.
+   */
+  private static final ClassValue<Constructor<?>[]> AT_INJECT_CONSTRUCTORS =
+      new ClassValue<Constructor<?>[]>() {
+        @Override
+        protected Constructor<?>[] computeValue(Class<?> type) {
+          return Arrays.stream(type.getDeclaredConstructors())
+              .filter(
+                  constructor ->
+                      constructor.isAnnotationPresent(Inject.class)
+                          || constructor.isAnnotationPresent(javax.inject.Inject.class))
+              .toArray(Constructor<?>[]::new);
+        }
+      };
+
+  /** The no-arguments constructor of each class, if it declares one. */
+  private static final ClassValue<Optional<Constructor<?>>> NO_ARG_CONSTRUCTORS =
+      new ClassValue<Optional<Constructor<?>>>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> type) {
+          try {
+            return Optional.of(type.getDeclaredConstructor());
+          } catch (NoSuchMethodException e) {
+            return Optional.empty();
+          }
+        }
+      };
+
   /**
    * Returns a new injection point for the injectable constructor of {@code type}.
    *
@@ -459,14 +485,15 @@ public final class InjectionPoint {
 
   /** Node in the doubly-linked list of injectable members (fields and methods). */
   abstract static class InjectableMember {
-    final TypeLiteral<?> declaringType;
+    /** Position of the member's declaring class in the hierarchy, 0 for the scanned class. */
+    final int hierarchyIndex;
     final boolean optional;
     final boolean jsr330;
     InjectableMember previous;
     InjectableMember next;
 
-    InjectableMember(TypeLiteral<?> declaringType, Annotation atInject) {
-      this.declaringType = declaringType;
+    InjectableMember(int hierarchyIndex, Annotation atInject) {
+      this.hierarchyIndex = hierarchyIndex;
 
       if (atInject.annotationType() == javax.inject.Inject.class) {
         optional = false;
@@ -478,19 +505,19 @@ public final class InjectionPoint {
       optional = ((Inject) atInject).optional();
     }
 
-    abstract InjectionPoint toInjectionPoint();
+    abstract InjectionPoint toInjectionPoint(TypeLiteral<?> declaringType);
   }
 
   static class InjectableField extends InjectableMember {
     final Field field;
 
-    InjectableField(TypeLiteral<?> declaringType, Field field, Annotation atInject) {
-      super(declaringType, atInject);
+    InjectableField(int hierarchyIndex, Field field, Annotation atInject) {
+      super(hierarchyIndex, atInject);
       this.field = field;
     }
 
     @Override
-    InjectionPoint toInjectionPoint() {
+    InjectionPoint toInjectionPoint(TypeLiteral<?> declaringType) {
       return new InjectionPoint(declaringType, field, optional);
     }
   }
@@ -503,13 +530,13 @@ public final class InjectionPoint {
      */
     boolean overrodeGuiceInject;
 
-    InjectableMethod(TypeLiteral<?> declaringType, Method method, Annotation atInject) {
-      super(declaringType, atInject);
+    InjectableMethod(int hierarchyIndex, Method method, Annotation atInject) {
+      super(hierarchyIndex, atInject);
       this.method = method;
     }
 
     @Override
-    InjectionPoint toInjectionPoint() {
+    InjectionPoint toInjectionPoint(TypeLiteral<?> declaringType) {
       return new InjectionPoint(declaringType, method, optional);
     }
 
@@ -681,118 +708,205 @@ public final class InjectionPoint {
    */
   private static Set<InjectionPoint> getInjectionPoints(
       final TypeLiteral<?> type, boolean statics, Errors errors) {
-    InjectableMembers injectableMembers = new InjectableMembers();
-    OverrideIndex overrideIndex = null;
-
-    List<TypeLiteral<?>> hierarchy = hierarchyFor(type);
-    int topIndex = hierarchy.size() - 1;
-    for (int i = topIndex; i >= 0; i--) {
-      if (overrideIndex != null && i < topIndex) {
-        // Knowing the position within the hierarchy helps us make optimizations.
-        if (i == 0) {
-          overrideIndex.position = Position.BOTTOM;
-        } else {
-          overrideIndex.position = Position.MIDDLE;
+    Class<?> rawType = type.getRawType();
+    ScannedMembers scanned =
+        Classes.isLoadedWithGuice(rawType)
+            ? (statics ? STATIC_MEMBERS : INSTANCE_MEMBERS).get(rawType)
+            : new ScannedMembers(rawType, statics);
+    errors.merge(scanned.errors);
+    for (Method method : scanned.notInjectedOverrides.keySet()) {
+      logger.log(Level.WARNING, scanned.notInjectedOverrides.get(method), method);
+    }
+
+    if (scanned.members.isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    if (type.getType() != type.getRawType()) {
+      return resolve(type, scanned, errors);
+    }
+
+    // Raw classes resolve the same way every time, so all injectors share their injection points.
+    ResolvedMembers resolved = scanned.resolvedForRawType;
+    if (resolved == null) {
+      Errors resolveErrors = new Errors();
+      ImmutableSet<InjectionPoint> injectionPoints = resolve(type, scanned, resolveErrors);
+      resolved = new ResolvedMembers(injectionPoints, resolveErrors.getMessages());
+      scanned.resolvedForRawType = resolved;
+    }
+    errors.merge(resolved.errors);
+    return resolved.injectionPoints;
+  }
+
+  /** Returns injection points for the scanned members, with types resolved in {@code type}. */
+  private static ImmutableSet<InjectionPoint> resolve(
+      TypeLiteral<?> type, ScannedMembers scanned, Errors errors) {
+    List<TypeLiteral<?>> hierarchy = hierarchyFor(type, scanned.hierarchySize);
+    ImmutableSet.Builder<InjectionPoint> builder = ImmutableSet.builder();
+    for (InjectableMember im : scanned.members) {
+      try {
+        builder.add(im.toInjectionPoint(hierarchy.get(im.hierarchyIndex)));
+      } catch (ConfigurationException ignorable) {
+        if (!im.optional) {
+          errors.merge(ignorable.getErrorMessages());
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Instance members of each class that are injectable, shared by all injectors. Only classes that
+   * can't outlive Guice are cached, see {@link Classes#isLoadedWithGuice}.
+   */
+  private static final ClassValue<ScannedMembers> INSTANCE_MEMBERS =
+      new ClassValue<ScannedMembers>() {
+        @Override
+        protected ScannedMembers computeValue(Class<?> type) {
+          return new ScannedMembers(type, false);
         }
+      };
+
+  /** Static members of each class that are injectable, shared by all injectors. */
+  private static final ClassValue<ScannedMembers> STATIC_MEMBERS =
+      new ClassValue<ScannedMembers>() {
+        @Override
+        protected ScannedMembers computeValue(Class<?> type) {
+          return new ScannedMembers(type, true);
+        }
+      };
+
+  /**
+   * The injectable members of a class and its superclasses. Finding them only needs the raw
+   * classes, so it's done once per class; the members' types are resolved for each type literal.
+   */
+  static final class ScannedMembers {
+    final ImmutableList<InjectableMember> members;
+    /** The number of classes in the hierarchy up to the topmost one with an injectable member. */
+    final int hierarchySize;
+    final ImmutableList<Message> errors;
+    /** Methods that stop overridden methods from being injected, with the warnings to log. */
+    final ImmutableMap<Method, String> notInjectedOverrides;
+    /** The members resolved in the raw class itself, or null until that's first needed. */
+    volatile ResolvedMembers resolvedForRawType;
+
+    ScannedMembers(Class<?> rawType, boolean statics) {
+      Errors errors = new Errors();
+      ImmutableMap.Builder<Method, String> notInjectedOverrides = ImmutableMap.builder();
+      InjectableMembers injectableMembers = new InjectableMembers();
+      OverrideIndex overrideIndex = null;
+
+      List<Class<?>> hierarchy = new ArrayList<>();
+      for (Class<?> current = rawType;
+          current != Object.class && current != null;
+          current = current.getSuperclass()) {
+        hierarchy.add(current);
       }
+      int topIndex = hierarchy.size() - 1;
+      for (int i = topIndex; i >= 0; i--) {
+        if (overrideIndex != null && i < topIndex) {
+          // Knowing the position within the hierarchy helps us make optimizations.
+          if (i == 0) {
+            overrideIndex.position = Position.BOTTOM;
+          } else {
+            overrideIndex.position = Position.MIDDLE;
+          }
+        }
 
-      TypeLiteral<?> current = hierarchy.get(i);
+        Class<?> current = hierarchy.get(i);
 
-      for (Field field : getDeclaredFields(current)) {
-        if (Modifier.isStatic(field.getModifiers()) == statics) {
-          Annotation atInject = getAtInject(field);
-          if (atInject != null) {
-            InjectableField injectableField = new InjectableField(current, field, atInject);
-            if (injectableField.jsr330 && Modifier.isFinal(field.getModifiers())) {
-              errors.cannotInjectFinalField(field);
+        for (Field field : DeclaredMembers.getDeclaredFields(current)) {
+          if (Modifier.isStatic(field.getModifiers()) == statics) {
+            Annotation atInject = getAtInject(field);
+            if (atInject != null) {
+              InjectableField injectableField = new InjectableField(i, field, atInject);
+              if (injectableField.jsr330 && Modifier.isFinal(field.getModifiers())) {
+                errors.cannotInjectFinalField(field);
+              }
+              injectableMembers.add(injectableField);
             }
-            injectableMembers.add(injectableField);
           }
         }
-      }
 
-      for (Method method : getDeclaredMethods(current)) {
-        if (isEligibleForInjection(method, statics)) {
-          Annotation atInject = getAtInject(method);
-          if (atInject != null) {
-            InjectableMethod injectableMethod = new InjectableMethod(current, method, atInject);
-            if (checkForMisplacedBindingAnnotations(method, errors)
-                || !isValidMethod(injectableMethod, errors)) {
-              if (overrideIndex != null) {
-                boolean removed =
-                    overrideIndex.removeIfOverriddenBy(method, false, injectableMethod);
-                if (removed) {
-                  logger.log(
-                      Level.WARNING,
-                      "Method: {0} is not a valid injectable method ("
-                          + "because it either has misplaced binding annotations "
-                          + "or specifies type parameters) but is overriding a method that is "
-                          + "valid. Because it is not valid, the method will not be injected. "
-                          + "To fix this, make the method a valid injectable method.",
-                      method);
+        for (Method method : DeclaredMembers.getDeclaredMethods(current)) {
+          if (isEligibleForInjection(method, statics)) {
+            Annotation atInject = getAtInject(method);
+            if (atInject != null) {
+              InjectableMethod injectableMethod = new InjectableMethod(i, method, atInject);
+              if (checkForMisplacedBindingAnnotations(method, errors)
+                  || !isValidMethod(injectableMethod, errors)) {
+                if (overrideIndex != null) {
+                  boolean removed =
+                      overrideIndex.removeIfOverriddenBy(method, false, injectableMethod);
+                  if (removed) {
+                    notInjectedOverrides.put(
+                        method,
+                        "Method: {0} is not a valid injectable method ("
+                            + "because it either has misplaced binding annotations "
+                            + "or specifies type parameters) but is overriding a method that is "
+                            + "valid. Because it is not valid, the method will not be injected. "
+                            + "To fix this, make the method a valid injectable method.");
+                  }
                 }
+                continue;
               }
-              continue;
-            }
-            if (statics) {
-              injectableMembers.add(injectableMethod);
-            } else {
-              if (overrideIndex == null) {
-                /*
-                 * Creating the override index lazily means that the first type in the hierarchy
-                 * with injectable methods (not necessarily the top most type) will be treated as
-                 * the TOP position and will enjoy the same optimizations (no checks for overridden
-                 * methods, etc.).
-                 */
-                overrideIndex = new OverrideIndex(injectableMembers);
+              if (statics) {
+                injectableMembers.add(injectableMethod);
               } else {
-                // Forcibly remove the overridden method, otherwise we'll inject
-                // it twice.
-                overrideIndex.removeIfOverriddenBy(method, true, injectableMethod);
+                if (overrideIndex == null) {
+                  /*
+                   * Creating the override index lazily means that the first type in the
+                   * hierarchy with injectable methods (not necessarily the top most type) will be
+                   * treated as the TOP position and will enjoy the same optimizations (no checks
+                   * for overridden methods, etc.).
+                   */
+                  overrideIndex = new OverrideIndex(injectableMembers);
+                } else {
+                  // Forcibly remove the overridden method, otherwise we'll inject
+                  // it twice.
+                  overrideIndex.removeIfOverriddenBy(method, true, injectableMethod);
+                }
+                overrideIndex.add(injectableMethod);
               }
-              overrideIndex.add(injectableMethod);
-            }
-          } else {
-            if (overrideIndex != null) {
-              boolean removed = overrideIndex.removeIfOverriddenBy(method, false, null);
-              if (removed) {
-                logger.log(
-                    Level.WARNING,
-                    "Method: {0} is not annotated with @Inject but "
-                        + "is overriding a method that is annotated with @javax.inject.Inject."
-                        + "Because it is not annotated with @Inject, the method will not be "
-                        + "injected. To fix this, annotate the method with @Inject.",
-                    method);
+            } else {
+              if (overrideIndex != null) {
+                boolean removed = overrideIndex.removeIfOverriddenBy(method, false, null);
+                if (removed) {
+                  notInjectedOverrides.put(
+                      method,
+                      "Method: {0} is not annotated with @Inject but "
+                          + "is overriding a method that is annotated with @javax.inject.Inject."
+                          + "Because it is not annotated with @Inject, the method will not be "
+                          + "injected. To fix this, annotate the method with @Inject.");
+                }
               }
             }
           }
         }
       }
-    }
-
-    if (injectableMembers.isEmpty()) {
-      return Collections.emptySet();
-    }
 
-    ImmutableSet.Builder<InjectionPoint> builder = ImmutableSet.builder();
-    for (InjectableMember im = injectableMembers.head; im != null; im = im.next) {
-      try {
-        builder.add(im.toInjectionPoint());
-      } catch (ConfigurationException ignorable) {
-        if (!im.optional) {
-          errors.merge(ignorable.getErrorMessages());
-        }
+      ImmutableList.Builder<InjectableMember> members = ImmutableList.builder();
+      int hierarchySize = 0;
+      for (InjectableMember im = injectableMembers.head; im != null; im = im.next) {
+        members.add(im);
+        hierarchySize = Math.max(hierarchySize, im.hierarchyIndex + 1);
       }
+      this.members = members.build();
+      this.hierarchySize = hierarchySize;
+      this.errors = ImmutableList.copyOf(errors.getMessages());
+      this.notInjectedOverrides = notInjectedOverrides.build();
     }
-    return builder.build();
   }
 
-  private static Field[] getDeclaredFields(TypeLiteral<?> type) {
-    return DeclaredMembers.getDeclaredFields(type.getRawType());
-  }
+  /** Injection points for scanned members, and the errors from resolving the other members. */
+  static final class ResolvedMembers {
+    final ImmutableSet<InjectionPoint> injectionPoints;
+    final ImmutableList<Message> errors;
 
-  private static Method[] getDeclaredMethods(TypeLiteral<?> type) {
-    return DeclaredMembers.getDeclaredMethods(type.getRawType());
+    ResolvedMembers(ImmutableSet<InjectionPoint> injectionPoints, List<Message> errors) {
+      this.injectionPoints = injectionPoints;
+      this.errors = ImmutableList.copyOf(errors);
+    }
   }
 
   /**
@@ -835,12 +949,14 @@ public final class InjectionPoint {
     return result;
   }
 
-  private static List<TypeLiteral<?>> hierarchyFor(TypeLiteral<?> type) {
-    List<TypeLiteral<?>> hierarchy = new ArrayList<>();
+  /** Returns {@code type} and its first {@code size - 1} resolved superclasses. */
+  private static List<TypeLiteral<?>> hierarchyFor(TypeLiteral<?> type, int size) {
+    List<TypeLiteral<?>> hierarchy = new ArrayList<>(size);
     TypeLiteral<?> current = type;
-    while (current.getRawType() != Object.class) {
-      hierarchy.add(current);
+    hierarchy.add(current);
+    while (hierarchy.size() < size) {
       current = current.getSupertype(current.getRawType().getSuperclass());
+      hierarchy.add(current);
     }
     return hierarchy;
   }
@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ListMultimap;
+import com.google.inject.IndexedScope;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.ProvisionException;
+import com.google.inject.Scopes;
+import com.google.inject.internal.CycleDetectingLock;
+import com.google.inject.internal.CycleDetectingLock.CycleDetectingLockFactory;
+import com.google.inject.internal.IndexedScopeSlots;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scope that shares instances like a singleton, but forgets them after they expire or when the
+ * scope holds too many. The next injection after that creates a new instance. This is useful for
+ * objects that are expensive to build but should be refreshed periodically.
+ *
+ * <p>Each binding is created at most once at a time: concurrent requests for the same binding wait
+ * for the thread creating it, while other bindings are unaffected. Null instances and circular
+ * dependencies are supported. If threads creating different bindings would wait on each other, the
+ * one closing the cycle fails with a {@link ProvisionException} instead of deadlocking.
+ *
+ * <p>Example:
+ *
+ * <pre>
+ * bindScope(Refreshed.class,
+ *     ExpiringScope.builder()
+ *         .expireAfterWrite(10, TimeUnit.MINUTES)
+ *         .maximumSize(100)
+ *         .build());
+ * </pre>
+ */
+public final class ExpiringScope implements IndexedScope {
+
+  /** Notified whenever an instance is removed from an {@link ExpiringScope}. */
+  public interface EvictionListener {
+    /**
+     * Called after {@code instance} was removed from the scope because it expired, the scope was
+     * full or {@link ExpiringScope#invalidateAll()} was called.
+     *
+     * @param key the key of the binding the instance was created for
+     * @param instance the evicted instance, possibly null
+     */
+    void onEviction(Key<?> key, Object instance);
+  }
+
+  /** A sentinel attribute value representing null. */
+  private static final Object NULL = new Object();
+
+  /** Creates the locks that guard creation, detecting cycles across threads like singletons do. */
+  private static final CycleDetectingLockFactory<Key<?>> cycleDetectingLockFactory =
+      new CycleDetectingLockFactory<Key<?>>();
+
+  /**
+   * The instances by the {@link IndexedScope slot} of their binding. Entries don't refer to the
+   * scoped providers, so the scope doesn't keep discarded injectors alive.
+   */
+  private final Cache<Integer, Entry> instances;
+  private final String description;
+
+  private ExpiringScope(Builder builder) {
+    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+    if (builder.maximumSize >= 0) {
+      cacheBuilder.maximumSize(builder.maximumSize);
+    }
+    if (builder.expireAfterWriteNanos >= 0) {
+      cacheBuilder.expireAfterWrite(builder.expireAfterWriteNanos, TimeUnit.NANOSECONDS);
+    }
+    if (builder.ticker != null) {
+      cacheBuilder.ticker(builder.ticker);
+    }
+    if (builder.evictionListener != null) {
+      final EvictionListener evictionListener = builder.evictionListener;
+      this.instances =
+          cacheBuilder.removalListener(
+                  new RemovalListener<Integer, Entry>() {
+                    @Override
+                    public void onRemoval(RemovalNotification<Integer, Entry> notification) {
+                      Entry entry = notification.getValue();
+                      evictionListener.onEviction(
+                          entry.key, entry.value == NULL ? null : entry.value);
+                    }
+                  })
+              .build();
+    } else {
+      this.instances = cacheBuilder.build();
+    }
+    this.description =
+        "ExpiringScope[maximumSize="
+            + builder.maximumSize
+            + ", expireAfterWriteNanos="
+            + builder.expireAfterWriteNanos
+            + "]";
+  }
+
+  /** Returns a new builder. Without further configuration, instances never expire. */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public <T> Provider<T> scope(Key<T> key, Provider<T> creator) {
+    return scope(key, IndexedScopeSlots.lease(this, creator), creator);
+  }
+
+  @Override
+  public <T> Provider<T> scope(Key<T> key, int slot, Provider<T> creator) {
+    return new ScopedProvider<T>(key, slot, creator);
+  }
+
+  /** Removes all instances from this scope, notifying the eviction listener. */
+  public void invalidateAll() {
+    instances.invalidateAll();
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+
+  /** An instance in the scope, and the binding it was created for. */
+  private static final class Entry {
+    final Key<?> key;
+
+    /** Identifies the scoped provider, as its slot may be reused once its injector is gone. */
+    final Object token;
+
+    final Object value;
+
+    Entry(Key<?> key, Object token, Object value) {
+      this.key = key;
+      this.token = token;
+      this.value = value;
+    }
+  }
+
+  /**
+   * Scoped provider for a single binding. Every binding has its own slot, so the same {@code Key}
+   * bound in several injectors has one instance per injector.
+   */
+  private final class ScopedProvider<T> implements Provider<T> {
+    final Key<T> key;
+    final Integer slot;
+    final Provider<T> creator;
+
+    /** Guards creation. Not synchronized, so that virtual threads waiting here don't pin. */
+    final CycleDetectingLock<Key<?>> lock;
+
+    final Object token = new Object();
+
+    ScopedProvider(Key<T> key, int slot, Provider<T> creator) {
+      this.key = key;
+      this.slot = slot;
+      this.creator = creator;
+      this.lock = cycleDetectingLockFactory.create(key);
+    }
+
+    @Override
+    public T get() {
+      Entry entry = instances.getIfPresent(slot);
+      if (entry != null && entry.token == token) {
+        return unwrap(entry.value);
+      }
+
+      // Reentrant, so that circular dependencies reach the creator and get a circular proxy.
+      ListMultimap<Thread, Key<?>> locksCycle = lock.lockOrDetectPotentialLocksCycle();
+      if (!locksCycle.isEmpty()) {
+        throw new ProvisionException(cycleMessage(locksCycle));
+      }
+      try {
+        entry = instances.getIfPresent(slot);
+        if (entry != null && entry.token == token) {
+          return unwrap(entry.value);
+        }
+        T t = creator.get();
+        if (!Scopes.isCircularProxy(t)) {
+          instances.put(slot, new Entry(key, token, t != null ? t : NULL));
+        }
+        return t;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T unwrap(Object value) {
+      return value == NULL ? null : (T) value;
+    }
+
+    private String cycleMessage(ListMultimap<Thread, Key<?>> locksCycle) {
+      StringBuilder message =
+          new StringBuilder("Encountered circular dependency spanning several threads in ")
+              .append(ExpiringScope.this)
+              .append('.');
+      for (Thread thread : locksCycle.keySet()) {
+        message.append(String.format("%n%s is creating %s", thread, locksCycle.get(thread)));
+      }
+      return message.toString();
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s[%s]", creator, ExpiringScope.this);
+    }
+  }
+
+  /** Configures an {@link ExpiringScope}. */
+  public static final class Builder {
+    private long maximumSize = -1;
+    private long expireAfterWriteNanos = -1;
+    private EvictionListener evictionListener;
+    private Ticker ticker;
+
+    private Builder() {}
+
+    /**
+     * Limits the number of instances held by the scope. When full, the least recently used
+     * instances are evicted.
+     */
+    public Builder maximumSize(long maximumSize) {
+      checkArgument(maximumSize >= 0, "maximumSize must not be negative: %s", maximumSize);
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    /** Evicts instances once {@code duration} has passed since they were created. */
+    public Builder expireAfterWrite(long duration, TimeUnit unit) {
+      checkArgument(duration >= 0, "duration must not be negative: %s %s", duration, unit);
+      this.expireAfterWriteNanos = unit.toNanos(duration);
+      return this;
+    }
+
+    /** Sets the listener notified about evicted instances. */
+    public Builder evictionListener(EvictionListener evictionListener) {
+      this.evictionListener = checkNotNull(evictionListener, "evictionListener");
+      return this;
+    }
+
+    /** Sets the time source used to expire instances. Mostly useful for testing. */
+    public Builder ticker(Ticker ticker) {
+      this.ticker = checkNotNull(ticker, "ticker");
+      return this;
+    }
+
+    public ExpiringScope build() {
+      return new ExpiringScope(this);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.util;
+
+import com.google.common.collect.MapMaker;
+import com.google.inject.IndexedScope;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Scopes;
+import com.google.inject.internal.IndexedScopeSlots;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A scope that keeps one instance per binding for each thread. Instances are never shared between
+ * threads, so scoped objects need not be thread-safe. Each thread keeps its instances in an array
+ * indexed by the bindings' {@link IndexedScope slots}, so a scoped lookup is a thread local read
+ * and an array load.
+ *
+ * <p>Instances stay in scope until the thread terminates or {@link #clear()} is called on it.
+ * Threads that are reused, such as those of a thread pool, should call {@link #clear()} when they
+ * finish a unit of work. Short lived threads, including virtual threads, release their instances
+ * when they terminate; the scope never blocks and holds no locks while creating instances.
+ * Instances are only reachable through the scope, so they are also released once the scope and the
+ * injectors using it are no longer used, even by threads that live on.
+ *
+ * <p>To use, bind a scope annotation to an instance of this class:
+ *
+ * <pre>
+ * bindScope(ThreadScoped.class, new ThreadScope());
+ * </pre>
+ */
+public final class ThreadScope implements IndexedScope {
+
+  /** A sentinel attribute value representing null. */
+  private static final Object NULL = new Object();
+
+  /**
+   * The instances of each thread, which only this scope holds on to. Weakly keyed so that they go
+   * away with the thread.
+   */
+  private final Map<Thread, Object[]> instancesByThread = new MapMaker().weakKeys().makeMap();
+
+  // Only refers weakly to the instances, as a thread keeps the values of its thread locals until it
+  // next cleans up stale ones, long after the scope is gone. No ThreadLocal.initialValue(), as that
+  // would cause classloader leaks. See
+  // https://github.com/google/guice/issues/288#issuecomment-48216933,
+  // https://github.com/google/guice/issues/288#issuecomment-48216944
+  private final ThreadLocal<WeakReference<Object[]>> instances = new ThreadLocal<>();
+
+  @Override
+  public <T> Provider<T> scope(Key<T> key, Provider<T> creator) {
+    return scope(key, IndexedScopeSlots.lease(this, creator), creator);
+  }
+
+  @Override
+  public <T> Provider<T> scope(final Key<T> key, int slot, final Provider<T> creator) {
+    // instances are stored after the token of the provider that created them, as the slot may be
+    // handed out again once its injector is gone
+    final int index = slot * 2;
+    final Object token = new Object();
+    return new Provider<T>() {
+      @Override
+      public T get() {
+        Object[] local = localInstances();
+        if (local != null && index < local.length && local[index] == token) {
+          return unwrap(local[index + 1]);
+        }
+
+        T t = creator.get();
+        if (!Scopes.isCircularProxy(t)) {
+          // re-read the storage, creating t may have grown it
+          local = localInstances();
+          if (local == null || index >= local.length) {
+            int length = local == null ? index + 2 : Math.max(index + 2, local.length * 2);
+            local = local == null ? new Object[length] : Arrays.copyOf(local, length);
+            instancesByThread.put(Thread.currentThread(), local);
+            instances.set(new WeakReference<>(local));
+          }
+          local[index] = token;
+          local[index + 1] = t != null ? t : NULL;
+        }
+        return t;
+      }
+
+      @Override
+      public String toString() {
+        return String.format("%s[%s]", creator, ThreadScope.this);
+      }
+    };
+  }
+
+  /** Removes all instances scoped to the current thread. */
+  public void clear() {
+    instancesByThread.remove(Thread.currentThread());
+    instances.remove();
+  }
+
+  private Object[] localInstances() {
+    WeakReference<Object[]> reference = instances.get();
+    return reference != null ? reference.get() : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T unwrap(Object value) {
+    return value == NULL ? null : (T) value;
+  }
+
+  @Override
+  public String toString() {
+    return "ThreadScope";
+  }
+}
@@ -21,9 +21,11 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
+import com.google.inject.internal.InternalFlags;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -510,6 +512,44 @@ public class CircularDependencyTest extends TestCase {
     assertEquals("G", f.g().f().g().toString());
   }
 
+  public void testCircularProxyForwardsToDelegate() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(F.class).to(RealF.class);
+                bind(G.class).to(RealG.class);
+              }
+            });
+    F f = injector.getInstance(F.class);
+    F proxy = f.g().f();
+    assertTrue(Scopes.isCircularProxy(proxy));
+    assertFalse(Scopes.isCircularProxy(f));
+    if (InternalFlags.isBytecodeGenEnabled()) {
+      assertFalse(Proxy.isProxyClass(proxy.getClass()));
+    }
+    assertSame(f.g(), proxy.g());
+    assertTrue(proxy.equals(f));
+    assertEquals(f.hashCode(), proxy.hashCode());
+  }
+
+  public void testCircularProxyUsedBeforeDelegateIsSet() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(F.class).to(RealF.class);
+                bind(G.class).to(EagerG.class);
+              }
+            });
+    EagerG g = (EagerG) injector.getInstance(F.class).g();
+    assertTrue(g.failure instanceof IllegalStateException);
+    assertContains(g.failure.getMessage(), "The object we're proxying is not constructed yet.");
+    assertEquals("F", g.f.toString());
+  }
+
   public interface F {
     G g();
   }
@@ -558,6 +598,27 @@ public class CircularDependencyTest extends TestCase {
     }
   }
 
+  @Singleton
+  public static class EagerG implements G {
+    private final F f;
+    private RuntimeException failure;
+
+    @Inject
+    EagerG(F f) {
+      this.f = f;
+      try {
+        f.g();
+      } catch (RuntimeException e) {
+        failure = e;
+      }
+    }
+
+    @Override
+    public F f() {
+      return f;
+    }
+  }
+
   /**
    * Tests that ProviderInternalFactory can detect circular dependencies before it gets to
    * Scopes.SINGLETON. This is especially important because the failure in Scopes.SINGLETON doesn't
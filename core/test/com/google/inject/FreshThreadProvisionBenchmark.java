@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import java.text.DecimalFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a top-level provision on a thread that has never used the injector before,
+ * which is the common case when each request runs on its own (virtual) thread, and compares it to
+ * provisioning on pooled threads. The difference is mostly the cost of setting up the injector's
+ * thread local context.
+ *
+ * <p>Virtual threads are only exercised when running on a JDK that supports them.
+ */
+public class FreshThreadProvisionBenchmark {
+
+  static final int TASKS = 200_000;
+
+  static class Tee {}
+
+  static class Bar {
+    @Inject
+    Bar(Tee tee) {}
+  }
+
+  static class Foo {
+    @Inject
+    Foo(Bar bar, Provider<Tee> tee) {}
+  }
+
+  public static void main(String[] args) throws Exception {
+    Injector injector = Guice.createInjector();
+    Provider<Foo> fooProvider = injector.getProvider(Foo.class);
+    boolean virtualThreadsSupported = virtualThreadsSupported();
+
+    for (int i = 0; i < 10; i++) {
+      run("Pooled threads:  ", Executors.newFixedThreadPool(8), fooProvider);
+      ExecutorService virtualThreads =
+          virtualThreadsSupported ? newVirtualThreadPerTaskExecutor() : null;
+      if (virtualThreads != null) {
+        run("Virtual threads: ", virtualThreads, fooProvider);
+      }
+      System.err.println();
+    }
+  }
+
+  /**
+   * Submits every task to {@code executor} and waits for them to finish. Pooled threads reuse
+   * their thread local context, whereas every virtual thread starts with a fresh one.
+   */
+  static void run(String label, ExecutorService executor, Provider<Foo> fooProvider)
+      throws InterruptedException {
+    long start = System.nanoTime();
+    for (int i = 0; i < TASKS; i++) {
+      executor.execute(fooProvider::get);
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+    long nanos = System.nanoTime() - start;
+    System.err.println(
+        label + new DecimalFormat("###,###").format(TASKS * 1_000_000_000L / nanos) + "/s");
+  }
+
+  /** Returns whether this JDK has virtual threads, without creating an executor to find out. */
+  static boolean virtualThreadsSupported() {
+    try {
+      Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+}
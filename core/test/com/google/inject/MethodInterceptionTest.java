@@ -32,6 +32,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.inject.internal.InternalFlags;
+import com.google.inject.internal.InternalFlags.CustomClassLoadingOption;
 import com.google.inject.matcher.AbstractMatcher;
 import com.google.inject.matcher.Matchers;
 import com.google.inject.name.Names;
@@ -269,6 +270,9 @@ public class MethodInterceptionTest {
 
   @Test
   public void testNotInterceptedMethodsInInterceptedClassDontAddFrames() {
+    // Test relies on proxy frames which hidden classes leave out of stack traces
+    assumeTrue(InternalFlags.getCustomClassLoadingOption() != CustomClassLoadingOption.HIDDEN);
+
     Injector injector =
         Guice.createInjector(
             new AbstractModule() {
@@ -33,8 +33,11 @@ import com.google.inject.internal.InternalFlags;
 import com.google.inject.matcher.Matchers;
 import com.google.inject.name.Names;
 import com.google.inject.spi.TypeConverter;
+import com.google.inject.spi.TypeEncounter;
+import com.google.inject.spi.TypeListener;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
 import java.util.List;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -326,6 +329,48 @@ public class ParentInjectorTest {
     }
   }
 
+  @Test
+  public void testChildWithOnlyLinkedBindingsValidatesTheirTargets() {
+    Injector parent = Guice.createInjector();
+    try {
+      parent.createChildInjector(
+          new AbstractModule() {
+            @Override
+            protected void configure() {
+              bind(B.class).to(Key.get(B.class, Names.named("missing")));
+            }
+          });
+      fail();
+    } catch (CreationException expected) {
+      assertContains(
+          expected.getMessage(),
+          "No implementation for " + B.class.getName() + " annotated with @",
+          "missing");
+    }
+  }
+
+  @Test
+  public void testChildWithOnlyInstanceBindingsNotifiesParentListeners() {
+    final List<TypeLiteral<?>> heard = new ArrayList<>();
+    Injector parent =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bindListener(
+                    Matchers.any(),
+                    new TypeListener() {
+                      @Override
+                      public <I> void hear(TypeLiteral<I> type, TypeEncounter<I> encounter) {
+                        heard.add(type);
+                      }
+                    });
+              }
+            });
+    parent.createChildInjector(bindsA);
+    assertEquals(ImmutableList.of(TypeLiteral.get(A.class)), heard);
+  }
+
   @Singleton
   static class A {}
 
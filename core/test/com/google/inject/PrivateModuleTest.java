@@ -77,6 +77,34 @@ public class PrivateModuleTest extends TestCase {
     assertEquals("ii", ab2.b);
   }
 
+  public void testExposedLinkedSingletonsAreShared() {
+    Injector injector =
+        Guice.createInjector(
+            new PrivateModule() {
+              @Override
+              public void configure() {
+                bind(String.class).annotatedWith(named("a")).toInstance("public");
+                bind(String.class).annotatedWith(named("b")).toInstance("private");
+                bind(AB.class).in(Scopes.SINGLETON);
+                bind(AB.class).annotatedWith(named("singleton")).to(AB.class);
+                expose(AB.class).annotatedWith(named("singleton"));
+                bind(AB.class).annotatedWith(named("instance")).toInstance(new AB());
+                expose(AB.class).annotatedWith(named("instance"));
+              }
+            });
+
+    Key<AB> singletonKey = Key.get(AB.class, named("singleton"));
+    AB singleton = injector.getInstance(singletonKey);
+    assertEquals("private", singleton.b);
+    assertSame(singleton, injector.getInstance(singletonKey));
+    assertSame(singleton, injector.getInstance(singletonKey));
+
+    Key<AB> instanceKey = Key.get(AB.class, named("instance"));
+    AB instance = injector.getInstance(instanceKey);
+    assertEquals("private", instance.b);
+    assertSame(instance, injector.getInstance(instanceKey));
+  }
+
   public void testWithoutPrivateModules() {
     Injector injector =
         Guice.createInjector(
@@ -16,6 +16,7 @@
 
 package com.google.inject;
 
+import static com.google.common.collect.Iterables.getLast;
 import static com.google.inject.Asserts.asModuleChain;
 import static com.google.inject.Asserts.assertContains;
 import static com.google.inject.Asserts.getDeclaringSourcePart;
@@ -41,6 +42,7 @@ import java.io.IOException;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -1381,4 +1383,92 @@ public class ScopesTest extends TestCase {
     } catch (ProvisionException expected) {
     }
   }
+
+  public void testIndexedScopeIsAssignedDenseSlots() {
+    final ArrayScope scope = new ArrayScope();
+    Module module =
+        new AbstractModule() {
+          @Override
+          protected void configure() {
+            bindScope(CustomScoped.class, scope);
+            bind(List.class).to(ArrayList.class).in(CustomScoped.class);
+            bind(Map.class).toProvider(Providers.of(Maps.newHashMap())).in(CustomScoped.class);
+          }
+        };
+
+    Injector injector = Guice.createInjector(module);
+    assertEquals(ImmutableList.of(0, 1), scope.slots);
+    assertSame(injector.getInstance(List.class), injector.getInstance(List.class));
+    assertSame(injector.getInstance(Map.class), injector.getInstance(Map.class));
+
+    // slots are unique to the scope across injectors
+    Injector child = injector.createChildInjector();
+    child.getInstance(AnnotatedCustomScoped.class);
+    Guice.createInjector(module);
+    assertEquals(ImmutableList.of(0, 1, 2, 3, 4), scope.slots);
+    assertSame(
+        child.getInstance(AnnotatedCustomScoped.class),
+        child.getInstance(AnnotatedCustomScoped.class));
+  }
+
+  public void testIndexedScopeReusesSlotsOfCollectedInjectors() throws Exception {
+    final ArrayScope scope = new ArrayScope();
+    Module module =
+        new AbstractModule() {
+          @Override
+          protected void configure() {
+            bindScope(CustomScoped.class, scope);
+            bind(List.class).to(ArrayList.class).in(CustomScoped.class);
+          }
+        };
+
+    WeakReference<Injector> collected = new WeakReference<>(Guice.createInjector(module));
+    assertEquals(ImmutableList.of(0), scope.slots);
+    Asserts.awaitClear(collected);
+
+    // the slot is only freed once the reference queue has caught up with the collection
+    Injector injector = null;
+    for (int i = 0; i < 100 && (injector == null || getLast(scope.slots) != 0); i++) {
+      Thread.sleep(i);
+      injector = Guice.createInjector(module);
+    }
+    assertEquals(0, (int) getLast(scope.slots));
+    assertSame(injector.getInstance(List.class), injector.getInstance(List.class));
+  }
+
+  public void testIndexedScopeCanBeUsedByKey() {
+    ArrayScope scope = new ArrayScope();
+    Provider<String> provider = scope.scope(Key.get(String.class), Providers.of("a"));
+    assertEquals("a", provider.get());
+    assertTrue(scope.slots.isEmpty());
+  }
+
+  /** An indexed scope that remembers everything in a single array. */
+  static class ArrayScope implements IndexedScope {
+    final List<Integer> slots = new ArrayList<>();
+    Object[] instances = new Object[0];
+
+    @Override
+    public <T> Provider<T> scope(Key<T> key, final int slot, final Provider<T> unscoped) {
+      slots.add(slot);
+      return new Provider<T>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get() {
+          if (slot >= instances.length) {
+            instances = Arrays.copyOf(instances, slot + 1);
+          }
+          if (instances[slot] == null) {
+            instances[slot] = unscoped.get();
+          }
+          return (T) instances[slot];
+        }
+      };
+    }
+
+    @Override
+    public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+      return unscoped;
+    }
+  }
 }
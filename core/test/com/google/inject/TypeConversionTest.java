@@ -502,6 +502,50 @@ public class TypeConversionTest extends TestCase {
     }
   }
 
+  public void testAmbiguousTypeConversionIsReportedForEachConstant() {
+    try {
+      Guice.createInjector(
+          new AbstractModule() {
+            @Override
+            protected void configure() {
+              install(new Ambiguous1Module());
+              install(new Ambiguous2Module());
+              bindConstant().annotatedWith(NumericValue.class).to("foo");
+              bindConstant().annotatedWith(BooleanValue.class).to("bar");
+              bind(DateHolder.class);
+              bind(BooleanDateHolder.class);
+            }
+          });
+      fail();
+    } catch (CreationException expected) {
+      assertEquals(2, expected.getErrorMessages().size());
+      assertContains(expected.getMessage(), "Multiple converters can convert 'foo' ");
+      assertContains(expected.getMessage(), "Multiple converters can convert 'bar' ");
+    }
+  }
+
+  public void testConverterOverlappingBuiltInConverterIsAmbiguous() {
+    try {
+      Guice.createInjector(
+          new AbstractModule() {
+            @Override
+            protected void configure() {
+              convertToTypes(Matchers.only(TypeLiteral.get(Integer.class)), mockTypeConverter(5));
+              bindConstant().annotatedWith(NumericValue.class).to("4");
+              bind(IntHolder.class);
+            }
+          });
+      fail();
+    } catch (CreationException expected) {
+      assertContains(
+          expected.getMessage(),
+          "Multiple converters can convert '4' ",
+          "TypeConverter<Integer> which matches identicalTo(class java.lang.Integer)",
+          "and",
+          "CustomConverter which matches only(java.lang.Integer)");
+    }
+  }
+
   TypeConverter mockTypeConverter(final Object result) {
     return new TypeConverter() {
       @Override
@@ -533,4 +577,12 @@ public class TypeConversionTest extends TestCase {
   static class DateHolder {
     @Inject @NumericValue Date date;
   }
+
+  static class BooleanDateHolder {
+    @Inject @BooleanValue Date date;
+  }
+
+  static class IntHolder {
+    @Inject @NumericValue int value;
+  }
 }
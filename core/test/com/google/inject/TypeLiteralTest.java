@@ -18,12 +18,17 @@ package com.google.inject;
 
 import static com.google.inject.Asserts.assertEqualsBothWays;
 import static com.google.inject.Asserts.assertNotSerializable;
+import static com.google.inject.Asserts.awaitClear;
+import static com.google.inject.Asserts.getClassPathUrls;
 
 import com.google.common.collect.ImmutableList;
 import com.google.inject.util.Types;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.net.URLClassLoader;
 import java.util.List;
 import junit.framework.TestCase;
 
@@ -204,6 +209,35 @@ public class TypeLiteralTest extends TestCase {
     assertEqualsBothWays(bTl, TypeLiteral.get(HasTypeParameters.class.getTypeParameters()[1]));
   }
 
+  public void testClassLiteralsAreOnlySharedForClassesLoadedWithGuice() {
+    assertSame(TypeLiteral.get(HasTypeParameters.class), TypeLiteral.get(HasTypeParameters.class));
+    assertNotSame(TypeLiteral.get(String.class), TypeLiteral.get(String.class));
+  }
+
+  public void testGuiceClassLoaderCanBeUnloaded() throws Exception {
+    WeakReference<ClassLoader> guiceLoader = useGuiceInSeparateClassLoader();
+
+    // nothing loaded by the parent class loaders, such as java.lang.String, may keep Guice loaded
+    awaitClear(guiceLoader);
+  }
+
+  /** Loads Guice and its dependencies again, as a redeployed web application would. */
+  private static WeakReference<ClassLoader> useGuiceInSeparateClassLoader() throws Exception {
+    URLClassLoader loader =
+        new URLClassLoader(getClassPathUrls(), ClassLoader.getSystemClassLoader().getParent());
+    Class<?> typeLiteral = loader.loadClass(TypeLiteral.class.getName());
+    assertNotSame(TypeLiteral.class, typeLiteral);
+    Object literal = typeLiteral.getMethod("get", Class.class).invoke(null, String.class);
+    assertEquals(String.class, typeLiteral.getMethod("getRawType").invoke(literal));
+
+    Object modules = Array.newInstance(loader.loadClass(Module.class.getName()), 0);
+    Class<?> guice = loader.loadClass(Guice.class.getName());
+    assertNotNull(guice.getMethod("createInjector", modules.getClass()).invoke(null, modules));
+
+    loader.close();
+    return new WeakReference<>(loader);
+  }
+
   static class HasTypeParameters<A, B extends List<A> & Runnable, C extends Runnable> {
     A a;
     B b;
@@ -365,4 +365,32 @@ public class TypeLiteralTypeResolutionTest extends TestCase {
     assertNotSerializable(a1);
     assertFalse(a1.equals(b));
   }
+
+  public void testResolvedMemberTypesAreMemoized() throws Exception {
+    TypeLiteral<?> ofShort = TypeLiteral.get(hasGenericFieldsOfShort);
+    TypeLiteral<?> fieldType = ofShort.getFieldType(list);
+    assertEquals(listOf(Short.class), fieldType.getType());
+    assertSame(fieldType, ofShort.getFieldType(list));
+
+    TypeLiteral<?> arrayList = TypeLiteral.get(arrayListOfString);
+    assertSame(arrayList.getSupertype(List.class), arrayList.getSupertype(List.class));
+    Method get = List.class.getMethod("get", int.class);
+    assertSame(arrayList.getReturnType(get), arrayList.getReturnType(get));
+    Method add = List.class.getMethod("add", Object.class);
+    assertSame(arrayList.getParameterTypes(add), arrayList.getParameterTypes(add));
+    assertEquals(ImmutableList.of(TypeLiteral.get(String.class)), arrayList.getParameterTypes(add));
+
+    // Members that don't belong to the type are still rejected after others were memoized.
+    try {
+      arrayList.getFieldType(list);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testClassLiteralsAreShared() {
+    // only classes loaded with Guice share their literal, see TypeLiteralTest
+    assertSame(TypeLiteral.get(getClass()), TypeLiteral.get(getClass()));
+    assertNotSame(TypeLiteral.get(Integer.class), TypeLiteral.get(int.class));
+  }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import java.text.DecimalFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates and discards 100k child injectors of a single parent, from several threads, like an
+ * application that creates a child injector per request or tenant. Every child bans its keys in the
+ * parent, and creates a just-in-time binding that has to check the banned keys, so this measures
+ * both creation and the banned key bookkeeping for collected children.
+ */
+public class ChildInjectorChurnBenchmark {
+
+  static final int CHILDREN = 100_000;
+  static final int THREADS = 8;
+
+  static class Tenant {
+    final String name;
+
+    Tenant(String name) {
+      this.name = name;
+    }
+  }
+
+  static class TenantService {
+    @Inject
+    TenantService(Tenant tenant) {}
+  }
+
+  public static void main(String[] args) throws Exception {
+    final Injector parent = Guice.createInjector();
+    for (int i = 0; i < 5; i++) {
+      ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+      long start = System.nanoTime();
+      for (int j = 0; j < CHILDREN; j++) {
+        final String name = "tenant" + j;
+        executor.execute(
+            () ->
+                parent
+                    .createChildInjector(
+                        new AbstractModule() {
+                          @Override
+                          protected void configure() {
+                            bind(Tenant.class).toInstance(new Tenant(name));
+                          }
+                        })
+                    .getInstance(TenantService.class));
+      }
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.MINUTES);
+      long nanos = System.nanoTime() - start;
+
+      // the banned keys of collected children are cleaned up once their references are enqueued
+      InjectorJitBindingData parentJitBindingData = ((InjectorImpl) parent).getJitBindingData();
+      boolean banned = true;
+      for (int attempt = 0; attempt < 50 && banned; attempt++) {
+        System.gc();
+        Thread.sleep(100);
+        synchronized (parentJitBindingData.lock()) {
+          banned = parentJitBindingData.isBannedKey(Key.get(Tenant.class));
+        }
+      }
+      System.err.println(
+          new DecimalFormat("###,###").format(CHILDREN * 1_000_000_000L / nanos)
+              + " children/s, Tenant still banned in parent after GC: "
+              + banned);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.common.collect.MapMaker;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Compares calls through a generated circular proxy with calls through a JDK proxy, and the
+ * {@link BytecodeGen#isCircularProxy} type check with the weak map lookup it replaces.
+ */
+public class CircularProxyBenchmark {
+
+  static final int CALLS = 20_000_000;
+
+  public interface Counter {
+    int add(int delta);
+  }
+
+  static class SimpleCounter implements Counter {
+    int count;
+
+    @Override
+    public int add(int delta) {
+      return count += delta;
+    }
+  }
+
+  public static void main(String[] args) {
+    Counter generated = BytecodeGen.newCircularProxy(Counter.class);
+    BytecodeGen.setCircularProxyDelegate(generated, new SimpleCounter());
+
+    DelegatingInvocationHandler<Counter> handler = new DelegatingInvocationHandler<>();
+    handler.setDelegate(new SimpleCounter());
+    Counter jdk =
+        (Counter)
+            Proxy.newProxyInstance(
+                Counter.class.getClassLoader(), new Class<?>[] {Counter.class}, handler);
+
+    Map<Class<?>, Boolean> proxyTypes = new MapMaker().weakKeys().makeMap();
+    proxyTypes.put(jdk.getClass(), Boolean.TRUE);
+    Object[] instances = {new SimpleCounter(), "value", generated, 42};
+
+    for (int i = 0; i < 10; i++) {
+      long generatedNanos = timeCalls(generated);
+      long jdkNanos = timeCalls(jdk);
+      long checkNanos = timeCheck(instances);
+      long lookupNanos = timeLookup(proxyTypes, instances);
+      System.err.printf(
+          "generated: %5.2f ns/call   JDK proxy: %6.2f ns/call   "
+              + "isCircularProxy: %5.2f ns   map lookup: %5.2f ns%n",
+          (double) generatedNanos / CALLS,
+          (double) jdkNanos / CALLS,
+          (double) checkNanos / CALLS,
+          (double) lookupNanos / CALLS);
+    }
+  }
+
+  static long timeCalls(Counter counter) {
+    long start = System.nanoTime();
+    int result = 0;
+    for (int i = 0; i < CALLS; i++) {
+      result = counter.add(1);
+    }
+    long nanos = System.nanoTime() - start;
+    if (result == 0) {
+      throw new AssertionError();
+    }
+    return nanos;
+  }
+
+  static long timeCheck(Object[] instances) {
+    long start = System.nanoTime();
+    int found = 0;
+    for (int i = 0; i < CALLS; i++) {
+      if (BytecodeGen.isCircularProxy(instances[i & 3])) {
+        found++;
+      }
+    }
+    long nanos = System.nanoTime() - start;
+    if (found != CALLS / 4) {
+      throw new AssertionError("found " + found);
+    }
+    return nanos;
+  }
+
+  static long timeLookup(Map<Class<?>, Boolean> proxyTypes, Object[] instances) {
+    long start = System.nanoTime();
+    int found = 0;
+    for (int i = 0; i < CALLS; i++) {
+      Object instance = instances[i & 3];
+      if (instance != null && proxyTypes.containsKey(instance.getClass())) {
+        found++;
+      }
+    }
+    long nanos = System.nanoTime() - start;
+    // the generated proxy isn't in the map, so only count that no other instance matched
+    if (found != 0) {
+      throw new AssertionError("found " + found);
+    }
+    return nanos;
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.inject.name.Names.named;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.MembersInjector;
+import com.google.inject.Provider;
+import com.google.inject.name.Named;
+
+/**
+ * Measures injecting constant bindings into the primitive fields and constructor parameters of
+ * unscoped objects.
+ */
+public class ConstantInjectionBenchmark {
+
+  static final int INJECTIONS = 5_000_000;
+
+  public static class Settings {
+    @Inject @Named("port") int port;
+    @Inject @Named("timeout") long timeout;
+    @Inject @Named("ratio") double ratio;
+    @Inject @Named("enabled") boolean enabled;
+  }
+
+  public static class Server {
+    final int port;
+    final long timeout;
+
+    @Inject
+    public Server(@Named("port") int port, @Named("timeout") long timeout) {
+      this.port = port;
+      this.timeout = timeout;
+    }
+  }
+
+  public static void main(String[] args) {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bindConstant().annotatedWith(named("port")).to(8080);
+                bindConstant().annotatedWith(named("timeout")).to(30_000L);
+                bindConstant().annotatedWith(named("ratio")).to(0.75);
+                bindConstant().annotatedWith(named("enabled")).to(true);
+              }
+            });
+    MembersInjector<Settings> membersInjector = injector.getMembersInjector(Settings.class);
+    Provider<Server> serverProvider = injector.getProvider(Server.class);
+    Settings settings = new Settings();
+
+    for (int i = 0; i < 10; i++) {
+      long start = System.nanoTime();
+      for (int j = 0; j < INJECTIONS; j++) {
+        membersInjector.injectMembers(settings);
+      }
+      long fieldNanos = System.nanoTime() - start;
+      start = System.nanoTime();
+      long sum = 0;
+      for (int j = 0; j < INJECTIONS; j++) {
+        sum += serverProvider.get().port;
+      }
+      long constructorNanos = System.nanoTime() - start;
+      if (sum != 8080L * INJECTIONS || settings.port != 8080) {
+        throw new AssertionError();
+      }
+      System.err.printf(
+          "4 fields: %6.1f ns/injection   2 constructor parameters: %6.1f ns/provision%n",
+          (double) fieldNanos / INJECTIONS, (double) constructorNanos / INJECTIONS);
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.inject.name.Names.named;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.name.Named;
+import junit.framework.TestCase;
+
+/** Tests for injecting constant bindings, which skips their factories. */
+public class ConstantInjectionTest extends TestCase {
+
+  static class Fields {
+    @Inject @Named("int") int i;
+    @Inject @Named("long") long l;
+    @Inject @Named("boolean") boolean z;
+    @Inject @Named("double") double d;
+    @Inject @Named("float") float f;
+    @Inject @Named("char") char c;
+    @Inject @Named("short") short s;
+    @Inject @Named("byte") byte b;
+    @Inject @Named("int") Integer boxed;
+    @Inject @Named("converted") int converted;
+    @Inject @Named("string") String string;
+  }
+
+  static class Parameters {
+    final int i;
+    final double d;
+    final String string;
+
+    @Inject
+    Parameters(@Named("int") int i, @Named("double") double d, @Named("string") String string) {
+      this.i = i;
+      this.d = d;
+      this.string = string;
+    }
+  }
+
+  private Injector injector;
+
+  @Override
+  protected void setUp() {
+    injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bindConstant().annotatedWith(named("int")).to(-42);
+                bindConstant().annotatedWith(named("long")).to(Long.MIN_VALUE);
+                bindConstant().annotatedWith(named("boolean")).to(true);
+                bindConstant().annotatedWith(named("double")).to(-0.5);
+                bindConstant().annotatedWith(named("float")).to(Float.NaN);
+                bindConstant().annotatedWith(named("char")).to(Character.MAX_VALUE);
+                bindConstant().annotatedWith(named("short")).to(Short.MIN_VALUE);
+                bindConstant().annotatedWith(named("byte")).to((byte) -1);
+                bindConstant().annotatedWith(named("converted")).to("7");
+                bindConstant().annotatedWith(named("string")).to("s");
+              }
+            });
+  }
+
+  public void testPrimitiveFields() {
+    Fields fields = injector.getInstance(Fields.class);
+    assertEquals(-42, fields.i);
+    assertEquals(Long.MIN_VALUE, fields.l);
+    assertTrue(fields.z);
+    assertEquals(-0.5, fields.d);
+    assertTrue(Float.isNaN(fields.f));
+    assertEquals(Character.MAX_VALUE, fields.c);
+    assertEquals(Short.MIN_VALUE, fields.s);
+    assertEquals(-1, fields.b);
+    assertEquals(Integer.valueOf(-42), fields.boxed);
+    assertEquals(7, fields.converted);
+    assertEquals("s", fields.string);
+  }
+
+  public void testConstructorParameters() {
+    Parameters parameters = injector.getInstance(Parameters.class);
+    assertEquals(-42, parameters.i);
+    assertEquals(-0.5, parameters.d);
+    assertEquals("s", parameters.string);
+  }
+
+  public void testInstanceAwaitingInjectionIsNotConstant() {
+    ConstantFactory<String> factory =
+        new ConstantFactory<>(
+            new Initializable<String>() {
+              @Override
+              public String get() {
+                return "pending";
+              }
+            });
+    assertNull(factory.getConstant());
+    assertEquals("s", new ConstantFactory<>(Initializables.of("s")).getConstant());
+  }
+}
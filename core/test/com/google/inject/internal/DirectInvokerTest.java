@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.inject.name.Names.named;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provides;
+import com.google.inject.ProvisionException;
+import com.google.inject.name.Named;
+import junit.framework.TestCase;
+
+/** Tests for the direct invokers of fast-classes, which take their arguments without an array. */
+public class DirectInvokerTest extends TestCase {
+
+  private Injector injector;
+
+  @Override
+  protected void setUp() {
+    injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(String.class).toInstance("s");
+                bind(Integer.class).toInstance(1);
+                bind(Long.class).toInstance(2L);
+                bind(Boolean.class).toInstance(true);
+                bind(Double.class).toInstance(3.5);
+                bind(Character.class).toInstance('c');
+              }
+
+              @Provides
+              @Named("sum")
+              public long sum(int i, long l, double d) {
+                return i + l + (long) d;
+              }
+
+              @Provides
+              @Named("seven")
+              public String seven(
+                  String s, int i, long l, boolean b, double d, char c, @Named("sum") long sum) {
+                return s + i + l + b + d + c + sum;
+              }
+            });
+  }
+
+  public void testConstructorWithMaxDirectArity() throws Exception {
+    SixParameters six = injector.getInstance(SixParameters.class);
+    assertEquals("s12true3.5c", six.value);
+    if (InternalFlags.isBytecodeGenEnabled()) {
+      assertNotNull(
+          BytecodeGen.directConstructor(
+              SixParameters.class.getConstructor(
+                  String.class, int.class, long.class, boolean.class, double.class, char.class)));
+    }
+  }
+
+  public void testConstructorWithTooManyParametersForDirectInvoker() throws Exception {
+    SevenParameters seven = injector.getInstance(SevenParameters.class);
+    assertEquals("s12true3.5c6", seven.value);
+    assertNull(
+        BytecodeGen.directConstructor(
+            SevenParameters.class.getConstructor(
+                String.class,
+                int.class,
+                long.class,
+                boolean.class,
+                double.class,
+                char.class,
+                long.class)));
+  }
+
+  public void testMethods() {
+    assertEquals(6L, (long) injector.getInstance(Key.get(Long.class, named("sum"))));
+    assertEquals(
+        "s12true3.5c6", injector.getInstance(Key.get(String.class, named("seven"))));
+
+    InjectedMethods methods = injector.getInstance(InjectedMethods.class);
+    assertEquals("none", methods.none);
+    assertEquals("s1", methods.two);
+  }
+
+  public void testExceptionFromDirectInvoker() {
+    try {
+      injector.getInstance(Thrower.class);
+      fail();
+    } catch (ProvisionException expected) {
+      assertEquals("thrown", expected.getCause().getMessage());
+    }
+  }
+
+  public static class SixParameters {
+    final String value;
+
+    @Inject
+    public SixParameters(String s, int i, long l, boolean b, double d, char c) {
+      value = s + i + l + b + d + c;
+    }
+  }
+
+  public static class SevenParameters {
+    final String value;
+
+    @Inject
+    public SevenParameters(
+        String s, int i, long l, boolean b, double d, char c, @Named("sum") long sum) {
+      value = s + i + l + b + d + c + sum;
+    }
+  }
+
+  public static class InjectedMethods {
+    String none;
+    String two;
+
+    @Inject
+    public void none() {
+      none = "none";
+    }
+
+    @Inject
+    public void two(String s, int i) {
+      two = s + i;
+    }
+  }
+
+  public static class Thrower {
+    @Inject
+    public Thrower(String s) {
+      throw new UnsupportedOperationException("thrown");
+    }
+  }
+}
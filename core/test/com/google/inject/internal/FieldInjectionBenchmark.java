@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.inject.name.Names.named;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.MembersInjector;
+import com.google.inject.name.Named;
+
+/**
+ * Measures injecting the sixteen fields of an object, like a request-scoped bean. The fields are
+ * bound to instances, so most of the time goes to setting them. The fields are package-private,
+ * so they only get generated setters when glue can be defined in their package, for example with
+ * {@code -Dguice_custom_class_loading=HIDDEN}. Run with {@code
+ * -Dguice_bytecode_gen_option=DISABLED} to compare with reflection.
+ */
+public class FieldInjectionBenchmark {
+
+  static final int INJECTIONS = 2_000_000;
+
+  public static class Service {}
+
+  public static class Bean {
+    @Inject Service s0;
+    @Inject Service s1;
+    @Inject Service s2;
+    @Inject Service s3;
+    @Inject Service s4;
+    @Inject Service s5;
+    @Inject Service s6;
+    @Inject Service s7;
+    @Inject @Named("a") String a;
+    @Inject @Named("b") String b;
+    @Inject @Named("c") String c;
+    @Inject @Named("d") String d;
+    @Inject @Named("e") String e;
+    @Inject @Named("f") String f;
+    @Inject @Named("g") String g;
+    @Inject @Named("h") String h;
+  }
+
+  public static void main(String[] args) {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(Service.class).toInstance(new Service());
+                for (String name : new String[] {"a", "b", "c", "d", "e", "f", "g", "h"}) {
+                  bind(String.class).annotatedWith(named(name)).toInstance(name);
+                }
+              }
+            });
+    MembersInjector<Bean> membersInjector = injector.getMembersInjector(Bean.class);
+    Bean bean = new Bean();
+
+    for (int i = 0; i < 10; i++) {
+      long start = System.nanoTime();
+      for (int j = 0; j < INJECTIONS; j++) {
+        membersInjector.injectMembers(bean);
+      }
+      long nanos = System.nanoTime() - start;
+      if (bean.s7 == null || !"h".equals(bean.h)) {
+        throw new AssertionError();
+      }
+      System.err.printf("16 fields: %6.1f ns/injection%n", (double) nanos / INJECTIONS);
+    }
+  }
+}
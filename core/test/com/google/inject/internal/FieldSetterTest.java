@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.inject.name.Names.named;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Provides;
+import com.google.inject.name.Named;
+import java.util.function.BiConsumer;
+import junit.framework.TestCase;
+
+/** Tests for the generated setters used to inject fields. */
+public class FieldSetterTest extends TestCase {
+
+  private Injector injector;
+
+  @Override
+  protected void setUp() {
+    injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(String.class).toInstance("s");
+                bindConstant().annotatedWith(named("constant")).to(7);
+              }
+
+              @Provides
+              @Named("provided")
+              int provided() {
+                return 42;
+              }
+
+              @Provides
+              @Named("provided")
+              double providedDouble() {
+                return 2.5;
+              }
+            });
+  }
+
+  public void testInjectFields() {
+    Fields fields = injector.getInstance(Fields.class);
+    assertEquals("s", fields.publicField);
+    assertEquals("s", fields.packageField);
+    assertEquals("s", fields.protectedField);
+    assertEquals("s", fields.privateField);
+    assertEquals("s", fields.finalField);
+    assertEquals(42, fields.provided);
+    assertEquals(2.5, fields.providedDouble);
+    assertEquals(7, fields.constant);
+    assertEquals("s", fields.inherited);
+  }
+
+  public void testInjectStaticField() {
+    Guice.createInjector(
+        new AbstractModule() {
+          @Override
+          protected void configure() {
+            bind(String.class).toInstance("static");
+            requestStaticInjection(StaticField.class);
+          }
+        });
+    assertEquals("static", StaticField.value);
+  }
+
+  public void testFastSetters() throws Exception {
+    if (!InternalFlags.isBytecodeGenEnabled()) {
+      return;
+    }
+    BiConsumer<Object, Object> setter =
+        BytecodeGen.fastSetter(Fields.class.getDeclaredField("publicField"));
+    assertNotNull(setter);
+    assertTrue(
+        setter.getClass().getName().contains(BytecodeGen.FIELD_SETTERS_BY_GUICE_MARKER));
+    Fields fields = new Fields();
+    setter.accept(fields, "set");
+    assertEquals("set", fields.publicField);
+
+    BiConsumer<Object, Object> primitiveSetter =
+        BytecodeGen.fastSetter(Fields.class.getDeclaredField("provided"));
+    if (primitiveSetter != null) {
+      primitiveSetter.accept(fields, 3);
+      assertEquals(3, fields.provided);
+    }
+
+    // final fields can only be assigned by their class, and private ones aren't visible to glue
+    assertNull(BytecodeGen.fastSetter(Fields.class.getDeclaredField("finalField")));
+    assertNull(BytecodeGen.fastSetter(Fields.class.getDeclaredField("privateField")));
+  }
+
+  public static class Base {
+    @Inject protected String inherited;
+  }
+
+  public static class Fields extends Base {
+    @Inject public String publicField;
+    @Inject String packageField;
+    @Inject protected String protectedField;
+    @Inject private String privateField;
+    @Inject final String finalField = null;
+    @Inject @Named("provided") int provided;
+    @Inject @Named("provided") double providedDouble;
+    @Inject @Named("constant") int constant;
+  }
+
+  public static class StaticField {
+    @Inject static String value;
+  }
+}
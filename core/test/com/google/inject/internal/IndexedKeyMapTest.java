@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Asserts;
+import com.google.inject.internal.IndexedKeyMap.KeyIndex;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.Map;
+import junit.framework.TestCase;
+
+/** Tests for {@link IndexedKeyMap}. */
+public class IndexedKeyMapTest extends TestCase {
+
+  public void testEnumKeys() {
+    KeyIndex<ElementType> index =
+        KeyIndex.create(ImmutableList.of(ElementType.METHOD, ElementType.FIELD));
+    assertNotNull(index);
+    Map<ElementType, String> map = new IndexedKeyMap<>(index, new Object[] {"m", "f"});
+
+    Map<ElementType, String> expected =
+        ImmutableMap.of(ElementType.METHOD, "m", ElementType.FIELD, "f");
+    assertEquals(expected, map);
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertEquals("{METHOD=m, FIELD=f}", map.toString());
+    assertEquals("f", map.get(ElementType.FIELD));
+    assertNull(map.get(ElementType.TYPE));
+    assertNull(map.get(RetentionPolicy.SOURCE));
+    assertNull(map.get(null));
+  }
+
+  public void testSerializesAsImmutableMap() throws Exception {
+    KeyIndex<Integer> index = KeyIndex.create(ImmutableList.of(2, 1));
+    Map<Integer, String> map = new IndexedKeyMap<>(index, new Object[] {"two", "one"});
+
+    Map<Integer, String> reserialized = Asserts.reserialize(map);
+    assertTrue(reserialized instanceof ImmutableMap);
+    assertEquals(ImmutableMap.of(2, "two", 1, "one"), reserialized);
+    assertEquals("{2=two, 1=one}", reserialized.toString());
+  }
+
+  public void testMixedEnumKeysAreNotIndexed() {
+    assertNull(KeyIndex.create(Arrays.<Object>asList(ElementType.METHOD, RetentionPolicy.SOURCE)));
+  }
+
+  public void testIntegerKeys() {
+    KeyIndex<Integer> index = KeyIndex.create(ImmutableList.of(5, 0, 2));
+    assertNotNull(index);
+    Map<Integer, String> map = new IndexedKeyMap<>(index, new Object[] {"five", "zero", "two"});
+
+    assertEquals(ImmutableMap.of(5, "five", 0, "zero", 2, "two"), map);
+    assertEquals("two", map.get(2));
+    assertNull(map.get(1));
+    assertNull(map.get(6));
+    assertNull(map.get(-1));
+    assertNull(map.get(2L));
+  }
+
+  public void testSparseNegativeOrMixedIntegerKeysAreNotIndexed() {
+    assertNull(KeyIndex.create(ImmutableList.of(1, 1_000_000)));
+    assertNull(KeyIndex.create(ImmutableList.of(1, -1)));
+    assertNull(KeyIndex.create(Arrays.<Object>asList(1, "one")));
+    assertNull(KeyIndex.create(ImmutableList.of("a", "b")));
+    assertNull(KeyIndex.create(ImmutableList.of()));
+  }
+}
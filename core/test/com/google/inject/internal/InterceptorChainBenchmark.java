@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.matcher.Matchers;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Compares calls to a method without interceptors with calls to the same method intercepted by
+ * one and by three pass-through interceptors.
+ */
+public class InterceptorChainBenchmark {
+
+  static final int CALLS = 50_000_000;
+
+  public static class Dao {
+    public int load(int id) {
+      return id + 1;
+    }
+  }
+
+  static class PassThroughInterceptor implements MethodInterceptor {
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+      return invocation.proceed();
+    }
+  }
+
+  public static void main(String[] args) {
+    Dao direct = new Dao();
+    Dao once = intercepted(1);
+    Dao thrice = intercepted(3);
+    for (int i = 0; i < 10; i++) {
+      System.err.printf(
+          "direct: %5.2f ns/call   1 interceptor: %5.2f ns/call   3 interceptors: %5.2f ns/call%n",
+          time(direct), time(once), time(thrice));
+    }
+  }
+
+  static Dao intercepted(final int interceptors) {
+    return Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                MethodInterceptor[] stack = new MethodInterceptor[interceptors];
+                for (int i = 0; i < interceptors; i++) {
+                  stack[i] = new PassThroughInterceptor();
+                }
+                bindInterceptor(Matchers.only(Dao.class), Matchers.any(), stack);
+              }
+            })
+        .getInstance(Dao.class);
+  }
+
+  static double time(Dao dao) {
+    long start = System.nanoTime();
+    int result = 0;
+    for (int i = 0; i < CALLS; i++) {
+      result = dao.load(result);
+    }
+    long nanos = System.nanoTime() - start;
+    if (result != CALLS) {
+      throw new AssertionError(result);
+    }
+    return (double) nanos / CALLS;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.matcher.Matchers;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Measures exceptions thrown through a method without interceptors and through the same method
+ * intercepted by three pass-through interceptors, which prune the stack trace of each exception.
+ * Run with {@code -Dguice_stack_trace_pruning=DISABLED} to measure the interceptors without
+ * pruning.
+ */
+public class InterceptorExceptionBenchmark {
+
+  static final int CALLS = 1_000_000;
+
+  public static class Dao {
+    public int load(int id) {
+      throw new IllegalArgumentException("no row " + id);
+    }
+  }
+
+  static class PassThroughInterceptor implements MethodInterceptor {
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+      return invocation.proceed();
+    }
+  }
+
+  public static void main(String[] args) {
+    Dao direct = new Dao();
+    Dao intercepted =
+        Guice.createInjector(
+                new AbstractModule() {
+                  @Override
+                  protected void configure() {
+                    bindInterceptor(
+                        Matchers.only(Dao.class),
+                        Matchers.any(),
+                        new PassThroughInterceptor(),
+                        new PassThroughInterceptor(),
+                        new PassThroughInterceptor());
+                  }
+                })
+            .getInstance(Dao.class);
+    for (int i = 0; i < 10; i++) {
+      System.err.printf(
+          "direct: %6.0f ns/exception   3 interceptors: %6.0f ns/exception%n",
+          time(direct), time(intercepted));
+    }
+  }
+
+  static double time(Dao dao) {
+    long start = System.nanoTime();
+    int thrown = 0;
+    for (int i = 0; i < CALLS; i++) {
+      try {
+        dao.load(i);
+      } catch (IllegalArgumentException expected) {
+        thrown++;
+      }
+    }
+    long nanos = System.nanoTime() - start;
+    if (thrown != CALLS) {
+      throw new AssertionError(thrown);
+    }
+    return (double) nanos / CALLS;
+  }
+}
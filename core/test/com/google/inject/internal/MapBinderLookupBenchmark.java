@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.multibindings.MapBinder;
+import java.util.Map;
+
+/**
+ * Compares lookups in the {@code Map<K, Provider<V>>} bound by a {@link MapBinder} with lookups in
+ * an {@link ImmutableMap} holding the same entries, for enum and integer keys, which are looked up
+ * by array index, and for string keys, which are not.
+ */
+public class MapBinderLookupBenchmark {
+
+  static final int HANDLERS = 2_000;
+  static final int LOOKUPS = 20_000_000;
+
+  enum Command {
+    GET,
+    PUT,
+    DELETE,
+    HEAD,
+    OPTIONS,
+    PATCH,
+    TRACE,
+    CONNECT
+  }
+
+  interface Handler {}
+
+  static class DefaultHandler implements Handler {}
+
+  public static void main(String[] args) {
+    Map<Command, Provider<Handler>> byCommand =
+        mapOfProviders(
+            new Key<Map<Command, Provider<Handler>>>() {}, Command.class, Command.values());
+    Integer[] ids = new Integer[HANDLERS];
+    String[] names = new String[HANDLERS];
+    for (int i = 0; i < HANDLERS; i++) {
+      ids[i] = i;
+      names[i] = "command" + i;
+    }
+    Map<Integer, Provider<Handler>> byId =
+        mapOfProviders(new Key<Map<Integer, Provider<Handler>>>() {}, Integer.class, ids);
+    Map<String, Provider<Handler>> byName =
+        mapOfProviders(new Key<Map<String, Provider<Handler>>>() {}, String.class, names);
+
+    for (int i = 0; i < 10; i++) {
+      compare("enum", byCommand, Command.values());
+      compare("integer", byId, ids);
+      compare("string", byName, names);
+      System.err.println();
+    }
+  }
+
+  static <K> Map<K, Provider<Handler>> mapOfProviders(
+      Key<Map<K, Provider<Handler>>> mapKey, final Class<K> keyType, final K[] keys) {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                MapBinder<K, Handler> mapBinder =
+                    MapBinder.newMapBinder(binder(), keyType, Handler.class);
+                for (K key : keys) {
+                  mapBinder.addBinding(key).to(DefaultHandler.class);
+                }
+              }
+            });
+    return injector.getInstance(mapKey);
+  }
+
+  static <K> void compare(String label, Map<K, Provider<Handler>> bound, K[] keys) {
+    long boundNanos = time(bound, keys);
+    long immutableNanos = time(ImmutableMap.copyOf(bound), keys);
+    System.err.printf(
+        "%-8s MapBinder map: %5.2f ns/lookup   ImmutableMap: %5.2f ns/lookup%n",
+        label, (double) boundNanos / LOOKUPS, (double) immutableNanos / LOOKUPS);
+  }
+
+  static <K> long time(Map<K, Provider<Handler>> map, K[] keys) {
+    long start = System.nanoTime();
+    int found = 0;
+    for (int i = 0; i < LOOKUPS; i++) {
+      if (map.get(keys[i % keys.length]) != null) {
+        found++;
+      }
+    }
+    long nanos = System.nanoTime() - start;
+    if (found != LOOKUPS) {
+      throw new AssertionError("found only " + found + " of " + LOOKUPS + " keys");
+    }
+    return nanos;
+  }
+}
@@ -522,6 +522,107 @@ public class MapBinderTest extends TestCase {
         providerInstance("num", 1));
   }
 
+  public void testMapBinderLazyValuesAreProvisionedOnAccess() {
+    final Map<String, Integer> provisions = new HashMap<>();
+    class CountingProvider implements Provider<Integer> {
+      final String key;
+
+      CountingProvider(String key) {
+        this.key = key;
+      }
+
+      @Override
+      public Integer get() {
+        return provisions.merge(key, 1, Integer::sum);
+      }
+    }
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                MapBinder<String, Integer> mapbinder =
+                    MapBinder.newMapBinder(binder(), String.class, Integer.class);
+                mapbinder.addBinding("a").toProvider(new CountingProvider("a"));
+                mapbinder.addBinding("b").toProvider(new CountingProvider("b"));
+              }
+            },
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                // lazyValues() applies to all modules contributing to the map
+                MapBinder.newMapBinder(binder(), String.class, Integer.class).lazyValues();
+              }
+            });
+
+    Map<String, Integer> map = injector.getInstance(Key.get(mapOfInteger));
+    assertEquals(ImmutableSet.of("a", "b"), map.keySet());
+    assertTrue(map.containsKey("a"));
+    assertNull(map.get("c"));
+    assertTrue(provisions.isEmpty());
+
+    assertEquals(Integer.valueOf(1), map.get("a"));
+    assertEquals(Integer.valueOf(1), map.get("a"));
+    assertEquals(ImmutableMap.of("a", 1), provisions);
+    assertEquals(ImmutableMap.of("a", 1, "b", 1), map);
+    assertEquals(ImmutableMap.of("a", 1, "b", 1), provisions);
+
+    // like an eagerly provisioned map, every injection provisions the values again
+    Map<String, Integer> other = injector.getInstance(Key.get(mapOfInteger));
+    assertNotSame(map, other);
+    assertEquals(Integer.valueOf(2), other.get("a"));
+    assertEquals(Integer.valueOf(1), map.get("a"));
+
+    try {
+      map.put("c", 3);
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+  }
+
+  public void testMapBinderLazyValuesSpi() {
+    Module module =
+        new AbstractModule() {
+          @Override
+          protected void configure() {
+            MapBinder<String, String> mapbinder =
+                MapBinder.newMapBinder(binder(), String.class, String.class).lazyValues();
+            mapbinder.addBinding("a").toInstance("A");
+            mapbinder.addBinding("b").toInstance("B");
+          }
+        };
+    Injector injector = Guice.createInjector(module);
+    assertEquals(mapOf("a", "A", "b", "B"), injector.getInstance(Key.get(mapOfString)));
+    assertMapVisitor(
+        Key.get(mapOfString),
+        stringType,
+        stringType,
+        setOf(module),
+        BOTH,
+        false,
+        0,
+        instance("a", "A"),
+        instance("b", "B"));
+  }
+
+  public void testMapBinderLazyValuesForbidsDuplicateKeys() {
+    try {
+      Guice.createInjector(
+          new AbstractModule() {
+            @Override
+            protected void configure() {
+              MapBinder<String, String> mapbinder =
+                  MapBinder.newMapBinder(binder(), String.class, String.class).lazyValues();
+              mapbinder.addBinding("a").toInstance("A");
+              mapbinder.addBinding("a").toInstance("B");
+            }
+          });
+      fail();
+    } catch (CreationException expected) {
+      assertContains(expected.getMessage(), "Map injection failed due to duplicated key \"a\"");
+    }
+  }
+
   public void testMapBinderMapForbidsDuplicateKeys() {
     Module module =
         new AbstractModule() {
@@ -1028,6 +1129,94 @@ public class MapBinderTest extends TestCase {
     assertEquals(Maps.immutableEntry("raphael", "red"), iterator.next());
   }
 
+  enum Turtle {
+    LEONARDO,
+    DONATELLO,
+    MICHELANGELO,
+    RAPHAEL
+  }
+
+  public void testEnumKeyedMapsKeepBindOrder() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                MapBinder<Turtle, String> mapBinder =
+                    MapBinder.newMapBinder(binder(), Turtle.class, String.class);
+                mapBinder.addBinding(Turtle.RAPHAEL).toInstance("red");
+                mapBinder.addBinding(Turtle.LEONARDO).toInstance("blue");
+                mapBinder.addBinding(Turtle.DONATELLO).toInstance("purple");
+              }
+            });
+
+    Map<Turtle, String> map = injector.getInstance(new Key<Map<Turtle, String>>() {});
+    assertEquals(
+        ImmutableMap.of(Turtle.RAPHAEL, "red", Turtle.LEONARDO, "blue", Turtle.DONATELLO, "purple"),
+        map);
+    assertEquals(
+        Arrays.asList(Turtle.RAPHAEL, Turtle.LEONARDO, Turtle.DONATELLO),
+        Lists.newArrayList(map.keySet()));
+    assertEquals("purple", map.get(Turtle.DONATELLO));
+    assertNull(map.get(Turtle.MICHELANGELO));
+    assertNull(map.get("RAPHAEL"));
+    assertFalse(map.containsKey(Turtle.MICHELANGELO));
+    try {
+      map.remove(Turtle.RAPHAEL);
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+
+    Map<Turtle, Provider<String>> providers =
+        injector.getInstance(new Key<Map<Turtle, Provider<String>>>() {});
+    assertEquals("blue", providers.get(Turtle.LEONARDO).get());
+    assertNull(providers.get(Turtle.MICHELANGELO));
+  }
+
+  public void testEnumKeyedMapsSerializeAsImmutableMaps() throws Exception {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                MapBinder<Turtle, String> mapBinder =
+                    MapBinder.newMapBinder(binder(), Turtle.class, String.class);
+                mapBinder.addBinding(Turtle.RAPHAEL).toInstance("red");
+                mapBinder.addBinding(Turtle.LEONARDO).toInstance("blue");
+              }
+            });
+
+    Map<Turtle, String> map = injector.getInstance(new Key<Map<Turtle, String>>() {});
+    Map<Turtle, String> reserialized = Asserts.reserialize(map);
+    assertTrue(reserialized instanceof ImmutableMap);
+    assertEquals(map, reserialized);
+    assertEquals(
+        Arrays.asList(Turtle.RAPHAEL, Turtle.LEONARDO), Lists.newArrayList(reserialized.keySet()));
+  }
+
+  public void testIntegerKeyedMapsKeepBindOrder() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                MapBinder<Integer, String> mapBinder =
+                    MapBinder.newMapBinder(binder(), Integer.class, String.class);
+                mapBinder.addBinding(3).toInstance("three");
+                mapBinder.addBinding(0).toInstance("zero");
+                mapBinder.addBinding(42).toInstance("forty-two");
+                mapBinder.addBinding(7).toInstance("seven");
+              }
+            });
+
+    Map<Integer, String> map = injector.getInstance(new Key<Map<Integer, String>>() {});
+    assertEquals(ImmutableMap.of(3, "three", 0, "zero", 42, "forty-two", 7, "seven"), map);
+    assertEquals(Arrays.asList(3, 0, 42, 7), Lists.newArrayList(map.keySet()));
+    assertEquals("seven", map.get(7));
+    assertNull(map.get(-1));
+    assertNull(map.get(7L));
+  }
+
   /** With overrides, we should get the union of all map bindings. */
   public void testModuleOverrideAndMapBindings() {
     Module ab =
@@ -19,8 +19,12 @@ package com.google.inject.internal;
 import static com.google.inject.Asserts.assertContains;
 import static org.junit.Assert.assertThrows;
 
+import com.google.inject.Inject;
+import com.google.inject.Key;
 import com.google.inject.TypeLiteral;
 import com.google.inject.internal.MoreTypes.ParameterizedTypeImpl;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
@@ -51,6 +55,47 @@ public class MoreTypesTest extends TestCase {
         MoreTypes.typeToString(mapInnerLongToSetInnerLong.getType()));
   }
 
+  static class NeedsLists {
+    @Inject @Named("first") List<String> first;
+    @Inject @Named("second") List<String> second;
+  }
+
+  public void testInternKey() throws Exception {
+    Key<List<String>> key = new Key<List<String>>(Names.named("first")) {};
+    Key<List<String>> interned = MoreTypes.internKey(MoreTypes.canonicalizeKey(key));
+    assertEquals(key, interned);
+    assertSame(interned, MoreTypes.internKey(Key.get(key.getTypeLiteral(), Names.named("first"))));
+    assertNotSame(
+        interned, MoreTypes.internKey(Key.get(key.getTypeLiteral(), Names.named("second"))));
+
+    Key<String> unannotated = MoreTypes.internKey(Key.get(String.class));
+    assertSame(unannotated, MoreTypes.internKey(Key.get(String.class)));
+  }
+
+  public void testInternKeyKeepsAnnotationClass() throws Exception {
+    Key<?> named = MoreTypes.internKey(Key.get(List.class, Names.named("first")));
+    Named reflected = NeedsLists.class.getDeclaredField("first").getAnnotation(Named.class);
+    Key<?> reflectedNamed = MoreTypes.internKey(Key.get(List.class, reflected));
+
+    // equal, but printed differently, so interning one must not replace the other
+    assertEquals(named, reflectedNamed);
+    assertNotSame(named, reflectedNamed);
+    assertSame(reflected, reflectedNamed.getAnnotation());
+    assertSame(reflectedNamed, MoreTypes.internKey(Key.get(List.class, reflected)));
+  }
+
+  public void testInternTypeLiteral() throws Exception {
+    TypeLiteral<?> first =
+        TypeLiteral.get(NeedsLists.class.getDeclaredField("first").getGenericType());
+    TypeLiteral<?> second =
+        TypeLiteral.get(NeedsLists.class.getDeclaredField("second").getGenericType());
+    assertNotSame(first, second);
+    assertSame(MoreTypes.internTypeLiteral(first), MoreTypes.internTypeLiteral(second));
+    assertSame(
+        MoreTypes.internTypeLiteral(first),
+        MoreTypes.internTypeLiteral(new TypeLiteral<List<String>>() {}));
+  }
+
   public void testParameterizedType_lessArgs() {
     IllegalArgumentException expected =
         assertThrows(
@@ -76,6 +76,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -393,6 +394,53 @@ public class MultibinderTest extends TestCase {
         Key.get(setOfInteger), intType, setOf(module), BOTH, false, 0, providerInstance(1));
   }
 
+  public void testMultibinderSetOfConstantElementsIsReused() {
+    Module module =
+        new AbstractModule() {
+          @Override
+          protected void configure() {
+            Multibinder<Object> multibinder = Multibinder.newSetBinder(binder(), Object.class);
+            multibinder.addBinding().toInstance("A");
+            multibinder.addBinding().to(Integer.class);
+            multibinder.addBinding().to(HashSet.class).in(Scopes.SINGLETON);
+          }
+
+          @Provides
+          @javax.inject.Singleton
+          Integer provideInteger() {
+            return 1;
+          }
+        };
+    Injector injector = Guice.createInjector(module);
+
+    Set<Object> set = injector.getInstance(Key.get(new TypeLiteral<Set<Object>>() {}));
+    assertEquals(3, set.size());
+    assertSame(set, injector.getInstance(Key.get(new TypeLiteral<Set<Object>>() {})));
+  }
+
+  public void testMultibinderSetOfSomeConstantElementsReprovisionsTheOthers() {
+    Module module =
+        new AbstractModule() {
+          @Override
+          protected void configure() {
+            Multibinder<Object> multibinder = Multibinder.newSetBinder(binder(), Object.class);
+            multibinder.addBinding().to(HashSet.class).in(Scopes.SINGLETON);
+            multibinder.addBinding().to(ArrayList.class);
+          }
+        };
+    Injector injector = Guice.createInjector(module);
+
+    Set<Object> first = injector.getInstance(Key.get(new TypeLiteral<Set<Object>>() {}));
+    Set<Object> second = injector.getInstance(Key.get(new TypeLiteral<Set<Object>>() {}));
+    assertNotSame(first, second);
+    assertSame(
+        Iterables.getOnlyElement(Iterables.filter(first, HashSet.class)),
+        Iterables.getOnlyElement(Iterables.filter(second, HashSet.class)));
+    assertNotSame(
+        Iterables.getOnlyElement(Iterables.filter(first, ArrayList.class)),
+        Iterables.getOnlyElement(Iterables.filter(second, ArrayList.class)));
+  }
+
   public void testMultibinderSetForbidsDuplicateElements() {
     Module module1 =
         new AbstractModule() {
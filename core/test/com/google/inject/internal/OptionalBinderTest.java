@@ -45,6 +45,7 @@ import com.google.inject.Provides;
 import com.google.inject.Scopes;
 import com.google.inject.TypeLiteral;
 import com.google.inject.internal.SpiUtils.VisitType;
+import com.google.inject.matcher.Matchers;
 import com.google.inject.multibindings.OptionalBinder;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
@@ -52,6 +53,7 @@ import com.google.inject.spi.Dependency;
 import com.google.inject.spi.Elements;
 import com.google.inject.spi.HasDependencies;
 import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.ProvisionListener;
 import com.google.inject.util.Modules;
 import com.google.inject.util.Providers;
 import java.lang.annotation.Annotation;
@@ -64,6 +66,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import junit.framework.TestCase;
 
 /** @author sameb@google.com (Sam Berlin) */
@@ -390,6 +393,92 @@ public class OptionalBinderTest extends TestCase {
     assertEquals("a", optionalJxP.get().get());
   }
 
+  interface Greeter {}
+
+  static class FormalGreeter implements Greeter {}
+
+  public void testOptionalOfLinkedSingletonReusesInstance() throws Exception {
+    final AtomicInteger provisions = new AtomicInteger();
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                OptionalBinder.newOptionalBinder(binder(), Greeter.class)
+                    .setDefault()
+                    .to(FormalGreeter.class);
+                bind(FormalGreeter.class).in(Scopes.SINGLETON);
+                bindListener(
+                    Matchers.any(),
+                    new ProvisionListener() {
+                      @Override
+                      public <T> void onProvision(ProvisionInvocation<T> provision) {
+                        provisions.incrementAndGet();
+                      }
+                    });
+              }
+            });
+    Key<Optional<Greeter>> optionalKey = new Key<Optional<Greeter>>() {};
+    Key<java.util.Optional<Greeter>> javaOptionalKey = new Key<java.util.Optional<Greeter>>() {};
+
+    Greeter greeter = injector.getInstance(Greeter.class);
+    assertTrue(greeter instanceof FormalGreeter);
+    assertSame(greeter, injector.getInstance(Greeter.class));
+    assertSame(greeter, injector.getInstance(optionalKey).get());
+    assertSame(injector.getInstance(optionalKey), injector.getInstance(optionalKey));
+    assertSame(greeter, injector.getInstance(javaOptionalKey).get());
+    assertSame(injector.getInstance(javaOptionalKey), injector.getInstance(javaOptionalKey));
+
+    // The singleton is created once, but listeners on the optional bindings see every provision.
+    int before = provisions.get();
+    injector.getInstance(Greeter.class);
+    injector.getInstance(optionalKey);
+    assertEquals(before + 2, provisions.get());
+  }
+
+  public void testOptionalOfLinkedInstanceCollapsesOntoInstance() throws Exception {
+    final Greeter instance = new FormalGreeter();
+    final Key<Greeter> instanceKey = Key.get(Greeter.class, Names.named("instance"));
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(instanceKey).toInstance(instance);
+                OptionalBinder.newOptionalBinder(binder(), Greeter.class)
+                    .setDefault()
+                    .to(instanceKey);
+              }
+            });
+
+    // the instance needs no injection, so its binding is constant without a scope
+    assertSame(instance, constantOf(injector.getBinding(instanceKey)));
+    assertSame(instance, injector.getInstance(Greeter.class));
+    assertSame(instance, injector.getInstance(new Key<Optional<Greeter>>() {}).get());
+    assertSame(instance, constantOf(injector.getBinding(Greeter.class)));
+  }
+
+  private static Object constantOf(Binding<?> binding) {
+    return ((BindingImpl<?>) binding).getInternalFactory().getConstant();
+  }
+
+  public void testOptionalOfLinkedUnscopedTypeCreatesNewInstances() throws Exception {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                OptionalBinder.newOptionalBinder(binder(), Greeter.class)
+                    .setDefault()
+                    .to(FormalGreeter.class);
+              }
+            });
+    Key<Optional<Greeter>> optionalKey = new Key<Optional<Greeter>>() {};
+
+    assertNotSame(injector.getInstance(Greeter.class), injector.getInstance(Greeter.class));
+    assertNotSame(injector.getInstance(optionalKey).get(), injector.getInstance(optionalKey).get());
+  }
+
   public void testSetBinding() throws Exception {
     Module module =
         new AbstractModule() {
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Provider;
+import com.google.inject.Provides;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the time and bytes allocated to provision unscoped objects whose constructor, injected
+ * method and provider method each take a few parameters.
+ */
+public class ProvisionAllocationBenchmark {
+
+  static final int PROVISIONS = 5_000_000;
+
+  public static class Leaf {}
+
+  public static class Node {
+    final Leaf first;
+    final Leaf second;
+    final String name;
+    Leaf injected;
+
+    @Inject
+    public Node(Leaf first, Leaf second, String name) {
+      this.first = first;
+      this.second = second;
+      this.name = name;
+    }
+
+    @Inject
+    public void inject(Leaf leaf, String name) {
+      this.injected = leaf;
+    }
+  }
+
+  public static void main(String[] args) {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Provides
+              public String name(Leaf leaf, Leaf other) {
+                return "node";
+              }
+            });
+    Provider<Node> provider = injector.getProvider(Node.class);
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    for (int i = 0; i < 10; i++) {
+      long bytesBefore = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+      long start = System.nanoTime();
+      Object last = null;
+      for (int j = 0; j < PROVISIONS; j++) {
+        last = provider.get();
+      }
+      long nanos = System.nanoTime() - start;
+      long bytes = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - bytesBefore;
+      if (last == null) {
+        throw new AssertionError();
+      }
+      System.err.printf(
+          "%6.1f ns/provision   %5.1f bytes/provision%n",
+          (double) nanos / PROVISIONS, (double) bytes / PROVISIONS);
+    }
+  }
+}
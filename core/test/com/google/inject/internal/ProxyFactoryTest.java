@@ -23,6 +23,7 @@ import static com.google.inject.matcher.Matchers.only;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
@@ -195,6 +196,134 @@ public class ProxyFactoryTest {
     assertEquals(2, countingInterceptor.count);
   }
 
+  @Test
+  public void testInterceptorProceedingTwiceInsideStack()
+      throws NoSuchMethodException, InvocationTargetException, ErrorsException {
+    CountingInterceptor outer = new CountingInterceptor();
+    CountingInterceptor inner = new CountingInterceptor();
+
+    aspects.add(new MethodAspect(any(), any(), outer, new DoubleInterceptor(), inner));
+    ProxyFactory<Counter> factory =
+        new ProxyFactory<Counter>(InjectionPoint.forConstructorOf(Counter.class), aspects);
+
+    Counter counter = factory.create().newInstance();
+    counter.inc();
+    assertEquals(2, counter.count);
+    assertEquals(1, outer.count);
+    assertEquals(2, inner.count);
+
+    counter.inc();
+    assertEquals(4, counter.count);
+    assertEquals(2, outer.count);
+    assertEquals(4, inner.count);
+  }
+
+  @Test
+  public void testSecondInterceptorProceedingAfterReturning() throws Throwable {
+    CountingInterceptor outer = new CountingInterceptor();
+    DeferringInterceptor deferring = new DeferringInterceptor();
+    CountingInterceptor inner = new CountingInterceptor();
+
+    aspects.add(new MethodAspect(any(), any(), outer, deferring, inner));
+    ProxyFactory<Counter> factory =
+        new ProxyFactory<Counter>(InjectionPoint.forConstructorOf(Counter.class), aspects);
+
+    Counter counter = factory.create().newInstance();
+    counter.inc();
+    assertEquals(0, counter.count);
+    assertEquals(1, outer.count);
+
+    // proceeding later continues with the interceptors after the one that kept the invocation
+    deferring.deferred.proceed();
+    assertEquals(1, counter.count);
+    assertEquals(1, outer.count);
+    assertEquals(1, inner.count);
+
+    deferring.deferred.proceed();
+    assertEquals(2, counter.count);
+    assertEquals(2, inner.count);
+  }
+
+  @Test
+  public void testEmptyInterceptorStack()
+      throws NoSuchMethodException, InvocationTargetException, ErrorsException {
+    aspects.add(new MethodAspect(any(), any()));
+    ProxyFactory<Counter> factory =
+        new ProxyFactory<Counter>(InjectionPoint.forConstructorOf(Counter.class), aspects);
+
+    Counter counter = factory.create().newInstance();
+    counter.inc();
+    assertEquals(1, counter.count);
+  }
+
+  @Test
+  public void testArgumentsOfMethodWithoutParameters()
+      throws NoSuchMethodException, InvocationTargetException, ErrorsException {
+    final List<Object[]> arguments = Lists.newArrayList();
+    aspects.add(
+        new MethodAspect(
+            any(),
+            any(),
+            invocation -> {
+              arguments.add(invocation.getArguments());
+              return invocation.proceed();
+            }));
+    ProxyFactory<Counter> factory =
+        new ProxyFactory<Counter>(InjectionPoint.forConstructorOf(Counter.class), aspects);
+
+    Counter counter = factory.create().newInstance();
+    counter.inc();
+    assertEquals(1, counter.count);
+    assertEquals(1, arguments.size());
+    assertEquals(0, arguments.get(0).length);
+  }
+
+  @Test
+  public void testExceptionThrownThroughStackIsPruned()
+      throws NoSuchMethodException, InvocationTargetException, ErrorsException {
+    aspects.add(
+        new MethodAspect(
+            any(),
+            any(),
+            invocation -> {
+              try {
+                return invocation.proceed();
+              } catch (IllegalStateException e) {
+                throw new IllegalArgumentException(e);
+              }
+            },
+            new CountingInterceptor(),
+            new CountingInterceptor()));
+    ProxyFactory<Thrower> factory =
+        new ProxyFactory<Thrower>(InjectionPoint.forConstructorOf(Thrower.class), aspects);
+
+    Thrower thrower = factory.create().newInstance();
+    try {
+      thrower.fail();
+      fail();
+    } catch (IllegalArgumentException expected) {
+      assertPruned(expected);
+      assertTrue(expected.getCause() instanceof IllegalStateException);
+      assertPruned(expected.getCause());
+      assertEquals("fail", expected.getCause().getStackTrace()[0].getMethodName());
+    }
+  }
+
+  private static void assertPruned(Throwable throwable) {
+    for (StackTraceElement element : throwable.getStackTrace()) {
+      assertFalse(
+          element.toString(),
+          element.getClassName().startsWith(InterceptorStackCallback.class.getName())
+              || element.getClassName().contains(BytecodeGen.ENHANCER_BY_GUICE_MARKER));
+    }
+  }
+
+  public static class Thrower {
+    protected void fail() {
+      throw new IllegalStateException();
+    }
+  }
+
   static class CountingInterceptor implements MethodInterceptor {
 
     int count;
@@ -215,6 +344,17 @@ public class ProxyFactoryTest {
     }
   }
 
+  static class DeferringInterceptor implements MethodInterceptor {
+
+    MethodInvocation deferred;
+
+    @Override
+    public Object invoke(MethodInvocation methodInvocation) throws Throwable {
+      deferred = methodInvocation;
+      return null;
+    }
+  }
+
   public static class Counter {
     int count;
 
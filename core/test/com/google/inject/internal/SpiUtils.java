@@ -284,6 +284,8 @@ public class SpiUtils {
       } else if (b.getKey().equals(mapOfKeyExtendsValueKey)) {
         assertTrue(contains);
         mapOfKeyExtendsValueKeyMatch = true;
+      } else if (b.getKey().equals(RealMapBinder.lazyValuesKey(mapKey))) {
+        assertTrue(contains);
       } else if (contains) {
         if (b instanceof ProviderInstanceBinding) {
           ProviderInstanceBinding<?> pib = (ProviderInstanceBinding<?>) b;
@@ -535,6 +537,9 @@ public class SpiUtils {
           matched = true;
           assertTrue(contains);
           mapOfKeyExtendsValueKeyMatch = true;
+        } else if (key.equals(RealMapBinder.lazyValuesKey(mapKey))) {
+          matched = true;
+          assertTrue(contains);
         }
       }
 
@@ -187,6 +187,25 @@ public class WeakKeySetTest extends TestCase {
     assertNotNull(weakKey2Ref.get());
   }
 
+  public void testSourcesAreNotChangedByEviction() {
+    TestInjectorBindingData bindingData1 = new TestInjectorBindingData();
+    TestInjectorBindingData bindingData2 = new TestInjectorBindingData();
+    Key<Integer> key = Key.get(Integer.class);
+    Object source1 = new Object();
+    Object source2 = new Object();
+
+    set.add(key, bindingData1, source1);
+    set.add(key, bindingData2, source2);
+    Set<Object> sources = set.getSources(key);
+
+    bindingData1 = null;
+    awaitFullGc();
+    assertSourceNotInSet(set, key, source1);
+
+    assertEquals(ImmutableSet.of(source1, source2), sources);
+    assertNotNull(bindingData2);
+  }
+
   public void testEviction_keyAndSourceOverlap_null() {
     TestInjectorBindingData bindingData1 = new TestInjectorBindingData();
     TestInjectorBindingData bindingData2 = new TestInjectorBindingData();
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal.aop;
+
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+/**
+ * Compares the cost of defining small classes next to hosts with each {@link ClassDefiner}
+ * available on this JVM, along with the metaspace they use and how much of it is given back once
+ * the classes are no longer used. Classes are defined next to one host, and one each next to hosts
+ * loaded by separate class loaders, for which the child definer creates a class loader each.
+ */
+public class ClassDefinerBenchmark {
+
+  static final int CLASSES = 5_000;
+  static final int HOST_LOADERS = 2_000;
+
+  static int nextId;
+
+  public static class Host {}
+
+  public static void main(String[] args) throws Exception {
+    Map<String, ClassDefiner> definers = new LinkedHashMap<>();
+    definers.put("child", new ChildClassDefiner());
+    if (HiddenClassDefiner.isAccessible()) {
+      definers.put("hidden", new HiddenClassDefiner());
+    }
+    if (UnsafeClassDefiner.isAccessible()) {
+      definers.put("unsafe", new UnsafeClassDefiner());
+    }
+    URL[] classPath = {Host.class.getProtectionDomain().getCodeSource().getLocation()};
+    Class<?>[] loaderHosts = new Class<?>[HOST_LOADERS];
+    for (int i = 0; i < HOST_LOADERS; i++) {
+      loaderHosts[i] = new URLClassLoader(classPath, null).loadClass(Host.class.getName());
+    }
+    for (int i = 0; i < 5; i++) {
+      for (Map.Entry<String, ClassDefiner> entry : definers.entrySet()) {
+        measure(entry.getKey(), entry.getValue(), new Class<?>[] {Host.class}, CLASSES);
+        measure(entry.getKey(), entry.getValue(), loaderHosts, 1);
+      }
+      System.err.println();
+    }
+  }
+
+  static void measure(String name, ClassDefiner definer, Class<?>[] hosts, int classesPerHost)
+      throws Exception {
+    int count = hosts.length * classesPerHost;
+    long metaspaceBefore = usedMetaspace();
+    List<Class<?>> classes = new ArrayList<>(count);
+    long start = System.nanoTime();
+    for (Class<?> host : hosts) {
+      for (int i = 0; i < classesPerHost; i++) {
+        classes.add(definer.define(host, generate(host, name)));
+      }
+    }
+    long nanos = System.nanoTime() - start;
+    long metaspaceDefined = usedMetaspace();
+    int checksum = 0;
+    for (Class<?> clazz : classes) {
+      checksum += (Integer) clazz.getMethod("id", int.class).invoke(null, 1);
+    }
+    if (checksum != count) {
+      throw new AssertionError(checksum);
+    }
+    classes = null;
+    long metaspaceReleased = usedMetaspace();
+    System.err.printf(
+        "%-18s %6.1f us/class   %6.0f metaspace bytes/class   %6.0f retained after release%n",
+        name + "/" + hosts.length + (hosts.length == 1 ? " host" : " hosts"),
+        nanos / 1000.0 / count,
+        (double) (metaspaceDefined - metaspaceBefore) / count,
+        (double) (metaspaceReleased - metaspaceBefore) / count);
+  }
+
+  /** Generates a distinct class next to the host with a static method that returns its argument. */
+  static byte[] generate(Class<?> host, String name) {
+    ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    cw.visit(
+        V1_8,
+        ACC_PUBLIC | ACC_SUPER,
+        Type.getInternalName(host) + "$$" + name + "$$" + nextId++,
+        null,
+        "java/lang/Object",
+        null);
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC | ACC_STATIC, "id", "(I)I", null, null);
+    mv.visitCode();
+    mv.visitVarInsn(ILOAD, 0);
+    mv.visitInsn(IRETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  /** Returns the metaspace used after a full collection, which unloads unused classes. */
+  static long usedMetaspace() {
+    System.gc();
+    System.gc();
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getName().equals("Metaspace")) {
+        return pool.getUsage().getUsed();
+      }
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal.aop;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+/** Tests for {@link HiddenClassDefiner}. */
+@RunWith(JUnit4.class)
+public class HiddenClassDefinerTest {
+
+  @Before
+  public void checkHiddenClassesAreAccessible() {
+    assumeTrue(HiddenClassDefiner.isAccessible());
+  }
+
+  @Test
+  public void testDefinesHiddenClassNextToHost() throws Exception {
+    assertTrue(HiddenClassDefiner.isHiddenHost(Host.class));
+
+    Class<?> defined = new HiddenClassDefiner().define(Host.class, helloClass(Host.class, "$$1"));
+    assertSame(Host.class.getClassLoader(), defined.getClassLoader());
+    assertSame(Host.class.getPackage(), defined.getPackage());
+    assertEquals("hello", defined.getMethod("hello").invoke(null));
+    // hidden classes are not visible by name
+    assertTrue(defined.getName(), defined.getName().contains("/"));
+  }
+
+  @Test
+  public void testDefinesRegularClassNextToHostFromOtherClassLoader() throws Exception {
+    URL[] classPath = {Host.class.getProtectionDomain().getCodeSource().getLocation()};
+    try (URLClassLoader loader = new URLClassLoader(classPath, null)) {
+      Class<?> otherHost = loader.loadClass(Host.class.getName());
+      assertFalse(HiddenClassDefiner.isHiddenHost(otherHost));
+
+      Class<?> defined = new HiddenClassDefiner().define(otherHost, helloClass(otherHost, "$$2"));
+      assertSame(loader, defined.getClassLoader());
+      assertEquals("hello", defined.getMethod("hello").invoke(null));
+      assertSame(defined, loader.loadClass(otherHost.getName() + "$$2"));
+    }
+  }
+
+  public static class Host {}
+
+  /** Generates a class next to the host with a static method that returns "hello". */
+  private static byte[] helloClass(Class<?> hostClass, String suffix) {
+    ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    cw.visit(
+        V1_8,
+        ACC_PUBLIC | ACC_SUPER,
+        Type.getInternalName(hostClass) + suffix,
+        null,
+        "java/lang/Object",
+        null);
+    MethodVisitor mv =
+        cw.visitMethod(ACC_PUBLIC | ACC_STATIC, "hello", "()Ljava/lang/String;", null, null);
+    mv.visitCode();
+    mv.visitLdcInsn("hello");
+    mv.visitInsn(ARETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+}
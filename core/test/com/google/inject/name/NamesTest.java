@@ -16,15 +16,23 @@
 
 package com.google.inject.name;
 
+import static com.google.inject.Asserts.assertContains;
 import static com.google.inject.Asserts.assertEqualWhenReserialized;
 import static com.google.inject.Asserts.assertEqualsBothWays;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.AbstractModule;
+import com.google.inject.CreationException;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Key;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.ElementSource;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.InstanceBinding;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import junit.framework.TestCase;
@@ -116,4 +124,55 @@ public class NamesTest extends TestCase {
     } catch (RuntimeException expected) {
     }
   }
+
+  public void testBindPropertiesRecordsInstanceBindingsWithCallerSource() {
+    final Map<String, String> properties = ImmutableMap.of("SanJose", "Sharks", "Port", "8080");
+    List<Element> elements =
+        Elements.getElements(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                Names.bindProperties(binder(), properties);
+              }
+            });
+
+    assertEquals(2, elements.size());
+    InstanceBinding<?> sanJose = (InstanceBinding<?>) elements.get(0);
+    assertEquals(Key.get(String.class, Names.named("SanJose")), sanJose.getKey());
+    assertEquals("Sharks", sanJose.getInstance());
+    assertEquals(
+        Key.get(String.class, Names.named("Port")),
+        ((InstanceBinding<?>) elements.get(1)).getKey());
+    // The bindings are attributed to the caller of bindProperties, not to Names.
+    StackTraceElement declaringSource =
+        (StackTraceElement) ((ElementSource) sanJose.getSource()).getDeclaringSource();
+    assertTrue(declaringSource.getClassName().startsWith(getClass().getName() + "$"));
+    assertEquals("configure", declaringSource.getMethodName());
+
+    Injector injector = Guice.createInjector(Elements.getModule(elements));
+    assertEquals(8080, (int) injector.getInstance(Key.get(Integer.class, Names.named("Port"))));
+  }
+
+  public void testBindPropertiesReportsDuplicatesAndNulls() {
+    final Map<String, String> properties = new LinkedHashMap<>();
+    properties.put("SanJose", "Sharks");
+    properties.put("Edmonton", null);
+    try {
+      Guice.createInjector(
+          new AbstractModule() {
+            @Override
+            protected void configure() {
+              Names.bindProperties(binder(), properties);
+              bind(Key.get(String.class, Names.named("SanJose"))).toInstance("Earthquakes");
+            }
+          });
+      fail();
+    } catch (CreationException expected) {
+      assertContains(
+          expected.getMessage(),
+          "Binding to null instances is not allowed.",
+          "String annotated with @com.google.inject.name.Named(",
+          "was already configured");
+    }
+  }
 }
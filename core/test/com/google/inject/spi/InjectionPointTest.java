@@ -348,6 +348,48 @@ public class InjectionPointTest extends TestCase {
     public ParameterizedInjections(Map<T, T> map) {}
   }
 
+  public void testParameterizationsOfOneClassAreResolvedSeparately() {
+    InjectionPoint strings =
+        getOnlyElement(
+            InjectionPoint.forInstanceMethodsAndFields(
+                new TypeLiteral<ParameterizedInjections<String>>() {}));
+    InjectionPoint integers =
+        getOnlyElement(
+            InjectionPoint.forInstanceMethodsAndFields(
+                new TypeLiteral<ParameterizedInjections<Integer>>() {}));
+    assertEquals(new Key<Set<String>>() {}, getOnlyElement(strings.getDependencies()).getKey());
+    assertEquals(new Key<Set<Integer>>() {}, getOnlyElement(integers.getDependencies()).getKey());
+    assertSame(strings.getMember(), integers.getMember());
+
+    InjectionPoint subclass =
+        getOnlyElement(InjectionPoint.forInstanceMethodsAndFields(StringInjections.class));
+    assertEquals(new Key<Set<String>>() {}, getOnlyElement(subclass.getDependencies()).getKey());
+    assertEquals(
+        new TypeLiteral<ParameterizedInjections<String>>() {}, subclass.getDeclaringType());
+  }
+
+  static class StringInjections extends ParameterizedInjections<String> {
+    StringInjections() {
+      super(null);
+    }
+  }
+
+  public void testErrorsAreReportedEachTimeTheTypeIsScanned() {
+    for (int i = 0; i < 2; i++) {
+      ConfigurationException exception =
+          assertThrows(
+              ConfigurationException.class,
+              () -> InjectionPoint.forInstanceMethodsAndFields(HasFinalField.class));
+      assertThat(exception).hasMessageThat().contains("cannot be final");
+      assertThat((Set<?>) exception.getPartialValue()).hasSize(2);
+    }
+  }
+
+  static class HasFinalField {
+    @javax.inject.Inject final String finalField = null;
+    @javax.inject.Inject String field;
+  }
+
   public void testSignature() throws Exception {
     Signature fooA = new Signature(Foo.class.getDeclaredMethod("a", String.class, int.class));
     Signature fooB = new Signature(Foo.class.getDeclaredMethod("b"));
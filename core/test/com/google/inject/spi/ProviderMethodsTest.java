@@ -53,6 +53,7 @@ import com.google.inject.internal.InternalFlags;
 import com.google.inject.internal.InternalFlags.CustomClassLoadingOption;
 import com.google.inject.internal.ProviderMethod;
 import com.google.inject.internal.ProviderMethodsModule;
+import com.google.inject.internal.aop.ClassDefining;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import com.google.inject.util.Providers;
@@ -637,10 +638,11 @@ public class ProviderMethodsTest implements Module {
   @Test
   public void testShareFastClass() {
     // FastClass is only used when bytecode generation is enabled and this test relies on package
-    // access which CHILD loading doesn't have.
+    // access which CHILD loading doesn't have. Hidden classes don't show up in stack traces.
     assumeTrue(
         InternalFlags.isBytecodeGenEnabled()
-            && InternalFlags.getCustomClassLoadingOption() != CustomClassLoadingOption.CHILD);
+            && InternalFlags.getCustomClassLoadingOption() != CustomClassLoadingOption.CHILD
+            && !ClassDefining.isHiddenHost(CallerInspecterModule.class));
 
     CallerInspecterModule module = new CallerInspecterModule();
     Guice.createInjector(Stage.PRODUCTION, module);
@@ -671,10 +673,11 @@ public class ProviderMethodsTest implements Module {
   @Test
   public void testShareFastClassWithSuperClass() {
     // FastClass is only used when bytecode generation is enabled and this test relies on package
-    // access which CHILD loading doesn't have.
+    // access which CHILD loading doesn't have. Hidden classes don't show up in stack traces.
     assumeTrue(
         InternalFlags.isBytecodeGenEnabled()
-            && InternalFlags.getCustomClassLoadingOption() != CustomClassLoadingOption.CHILD);
+            && InternalFlags.getCustomClassLoadingOption() != CustomClassLoadingOption.CHILD
+            && !ClassDefining.isHiddenHost(CallerInspecterSubClassModule.class));
 
     CallerInspecterSubClassModule module = new CallerInspecterSubClassModule();
     Guice.createInjector(Stage.PRODUCTION, module);
@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.util;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableList;
+import com.google.inject.AbstractModule;
+import com.google.inject.Asserts;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.ProvisionException;
+import com.google.inject.Scopes;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.TestCase;
+
+/** Unit tests for {@link ExpiringScope}. */
+public class ExpiringScopeTest extends TestCase {
+
+  private final FakeTicker ticker = new FakeTicker();
+  private final List<Object> evicted = new ArrayList<>();
+
+  private final ExpiringScope scope =
+      ExpiringScope.builder()
+          .expireAfterWrite(10, TimeUnit.MINUTES)
+          .maximumSize(2)
+          .ticker(ticker)
+          .evictionListener(
+              new ExpiringScope.EvictionListener() {
+                @Override
+                public void onEviction(Key<?> key, Object instance) {
+                  evicted.add(instance);
+                }
+              })
+          .build();
+
+  private final Injector injector =
+      Guice.createInjector(
+          new AbstractModule() {
+            @Override
+            protected void configure() {
+              bind(A.class).in(scope);
+              bind(B.class).in(scope);
+              bind(C.class).in(scope);
+              bind(Interface.class).to(Implementation.class).in(scope);
+              bind(Implementation.class).in(scope);
+            }
+          });
+
+  public void testSharedUntilExpired() {
+    A a = injector.getInstance(A.class);
+    ticker.advance(9, TimeUnit.MINUTES);
+    assertSame(a, injector.getInstance(A.class));
+
+    ticker.advance(1, TimeUnit.MINUTES);
+    A refreshed = injector.getInstance(A.class);
+    assertNotSame(a, refreshed);
+    assertEquals(ImmutableList.of(a), evicted);
+    assertSame(refreshed, injector.getInstance(A.class));
+  }
+
+  public void testMaximumSize() {
+    A a = injector.getInstance(A.class);
+    injector.getInstance(B.class);
+    injector.getInstance(A.class);
+    C c = injector.getInstance(C.class);
+    assertEquals(1, evicted.size());
+    assertTrue(evicted.get(0) instanceof B);
+    assertSame(a, injector.getInstance(A.class));
+    assertSame(c, injector.getInstance(C.class));
+  }
+
+  public void testInvalidateAll() {
+    A a = injector.getInstance(A.class);
+    scope.invalidateAll();
+    assertEquals(ImmutableList.of(a), evicted);
+    assertNotSame(a, injector.getInstance(A.class));
+  }
+
+  public void testInstancesDoNotKeepInjectorAlive() {
+    Injector other =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(A.class).in(scope);
+              }
+            });
+    A a = other.getInstance(A.class);
+    assertNotSame(a, injector.getInstance(A.class));
+    assertSame(a, other.getInstance(A.class));
+
+    // the instance stays in the scope, but the injector that created it can go away
+    WeakReference<Injector> otherReference = new WeakReference<>(other);
+    other = null;
+    Asserts.awaitClear(otherReference);
+    assertTrue(evicted.isEmpty());
+  }
+
+  public void testNullIsScoped() {
+    final AtomicInteger calls = new AtomicInteger();
+    Provider<String> scoped =
+        scope.scope(
+            Key.get(String.class),
+            new Provider<String>() {
+              @Override
+              public String get() {
+                calls.incrementAndGet();
+                return null;
+              }
+            });
+    assertNull(scoped.get());
+    assertNull(scoped.get());
+    assertEquals(1, calls.get());
+  }
+
+  public void testCircularDependency() {
+    Implementation implementation = injector.getInstance(Implementation.class);
+    assertSame(implementation, injector.getInstance(Interface.class));
+    assertTrue(Scopes.isCircularProxy(implementation.dependent.dependency));
+  }
+
+  public void testCreatedOnceWhenRequestedConcurrently() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch proceed = new CountDownLatch(1);
+    final Provider<Object> scoped =
+        scope.scope(
+            Key.get(Object.class),
+            new Provider<Object>() {
+              @Override
+              public Object get() {
+                calls.incrementAndGet();
+                started.countDown();
+                try {
+                  proceed.await();
+                } catch (InterruptedException e) {
+                  throw new RuntimeException(e);
+                }
+                return new Object();
+              }
+            });
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<Object> first = executor.submit(scoped::get);
+      started.await();
+      Future<Object> second = executor.submit(scoped::get);
+      proceed.countDown();
+      assertSame(first.get(), second.get());
+      assertEquals(1, calls.get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testCycleAcrossThreadsFailsInsteadOfDeadlocking() throws Exception {
+    final CountDownLatch bothCreating = new CountDownLatch(2);
+    final Injector cycleInjector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(CountDownLatch.class).toInstance(bothCreating);
+                bind(First.class).to(FirstImpl.class).in(scope);
+                bind(Second.class).to(SecondImpl.class).in(scope);
+              }
+            });
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<First> first = executor.submit(() -> cycleInjector.getInstance(First.class));
+      Future<Second> second = executor.submit(() -> cycleInjector.getInstance(Second.class));
+      int failures = 0;
+      for (Future<?> future : ImmutableList.of(first, second)) {
+        try {
+          assertNotNull(future.get(10, TimeUnit.SECONDS));
+        } catch (ExecutionException e) {
+          // the thread closing the cycle gives up, so the other one can finish
+          failures++;
+          assertTrue(e.getCause() instanceof ProvisionException);
+          Asserts.assertContains(
+              e.getCause().getMessage(), "circular dependency spanning several threads");
+        }
+      }
+      assertEquals(1, failures);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  static class FakeTicker extends Ticker {
+    private long nanos;
+
+    void advance(long duration, TimeUnit unit) {
+      nanos += unit.toNanos(duration);
+    }
+
+    @Override
+    public long read() {
+      return nanos;
+    }
+  }
+
+  static class A {}
+
+  static class B {}
+
+  static class C {}
+
+  interface Interface {}
+
+  static class Implementation implements Interface {
+    final Dependent dependent;
+
+    @Inject
+    Implementation(Dependent dependent) {
+      this.dependent = dependent;
+    }
+  }
+
+  static class Dependent {
+    final Interface dependency;
+
+    @Inject
+    Dependent(Interface dependency) {
+      this.dependency = dependency;
+    }
+  }
+
+  interface First {}
+
+  static class FirstImpl implements First {
+    @Inject
+    FirstImpl(CountDownLatch bothCreating, Provider<Second> second) throws InterruptedException {
+      bothCreating.countDown();
+      bothCreating.await();
+      second.get();
+    }
+  }
+
+  interface Second {}
+
+  static class SecondImpl implements Second {
+    @Inject
+    SecondImpl(CountDownLatch bothCreating, Provider<First> first) throws InterruptedException {
+      bothCreating.countDown();
+      bothCreating.await();
+      first.get();
+    }
+  }
+}
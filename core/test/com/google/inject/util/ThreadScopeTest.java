@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.util;
+
+import static com.google.inject.Asserts.awaitClear;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Provides;
+import com.google.inject.Scopes;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReference;
+import junit.framework.TestCase;
+
+/** Unit tests for {@link ThreadScope}. */
+public class ThreadScopeTest extends TestCase {
+
+  private ThreadScope scope = new ThreadScope();
+
+  private Injector injector;
+
+  @Override
+  protected void setUp() throws Exception {
+    injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(Counter.class).in(scope);
+                bind(Interface.class).to(Implementation.class).in(scope);
+                bind(Implementation.class).in(scope);
+              }
+
+              @Provides
+              @Named("null")
+              String provideNull() {
+                return null;
+              }
+            });
+  }
+
+  public void testSameInstanceOnSameThread() {
+    assertSame(injector.getInstance(Counter.class), injector.getInstance(Counter.class));
+  }
+
+  public void testDifferentInstanceOnOtherThread() throws Exception {
+    final Counter counter = injector.getInstance(Counter.class);
+    final AtomicReference<Counter> otherCounter = new AtomicReference<>();
+    Thread thread =
+        new Thread() {
+          @Override
+          public void run() {
+            otherCounter.set(injector.getInstance(Counter.class));
+          }
+        };
+    thread.start();
+    thread.join();
+    assertNotNull(otherCounter.get());
+    assertNotSame(counter, otherCounter.get());
+  }
+
+  public void testClear() {
+    Counter counter = injector.getInstance(Counter.class);
+    scope.clear();
+    assertNotSame(counter, injector.getInstance(Counter.class));
+  }
+
+  public void testNullIsScoped() {
+    final int[] calls = new int[1];
+    Provider<String> scoped =
+        scope.scope(
+            Key.get(String.class),
+            new Provider<String>() {
+              @Override
+              public String get() {
+                calls[0]++;
+                return null;
+              }
+            });
+    assertNull(scoped.get());
+    assertNull(scoped.get());
+    assertEquals(1, calls[0]);
+    assertNull(injector.getInstance(Key.get(String.class, Names.named("null"))));
+  }
+
+  public void testCircularDependency() {
+    Implementation implementation = injector.getInstance(Implementation.class);
+    assertSame(implementation, injector.getInstance(Interface.class));
+    assertTrue(Scopes.isCircularProxy(implementation.dependent.dependency));
+    assertSame(implementation, injector.getInstance(Dependent.class).dependency);
+  }
+
+  public void testEachInjectorHasItsOwnInstances() {
+    Injector other =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(Counter.class).in(scope);
+              }
+            });
+    Counter counter = injector.getInstance(Counter.class);
+    Counter otherCounter = other.getInstance(Counter.class);
+    assertNotSame(counter, otherCounter);
+    assertSame(counter, injector.getInstance(Counter.class));
+    assertSame(otherCounter, other.getInstance(Counter.class));
+  }
+
+  public void testInstancesAreReleasedWithScope() {
+    WeakReference<Counter> counter = new WeakReference<>(injector.getInstance(Counter.class));
+    assertNotNull(counter.get());
+
+    // this thread lives on, but the scope and the injector using it are gone
+    injector = null;
+    scope = null;
+    awaitClear(counter);
+  }
+
+  static class Counter {}
+
+  interface Interface {}
+
+  static class Implementation implements Interface {
+    final Dependent dependent;
+
+    @Inject
+    Implementation(Dependent dependent) {
+      this.dependent = dependent;
+    }
+  }
+
+  static class Dependent {
+    final Interface dependency;
+
+    @Inject
+    Dependent(Interface dependency) {
+      this.dependency = dependency;
+    }
+  }
+}
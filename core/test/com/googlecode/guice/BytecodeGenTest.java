@@ -18,6 +18,7 @@ package com.googlecode.guice;
 
 import static com.google.inject.Asserts.getClassPathUrls;
 import static com.google.inject.matcher.Matchers.any;
+import static com.google.inject.matcher.Matchers.subclassesOf;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
@@ -34,11 +35,15 @@ import com.google.inject.Injector;
 import com.google.inject.Module;
 import com.google.inject.internal.InternalFlags;
 import com.google.inject.internal.InternalFlags.CustomClassLoadingOption;
+import com.google.inject.internal.aop.ClassDefining;
+import com.google.inject.util.ThreadScope;
 import com.googlecode.guice.PackageVisibilityTestModule.PublicUserOfPackagePrivate;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
 import javax.inject.Inject;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -286,6 +291,40 @@ public class BytecodeGenTest {
     assertNull("Proxy class was not unloaded.", clazzRef.get());
   }
 
+  @Test
+  public void testInjectorClassLoaderUnloading() throws Exception {
+    WeakReference<ClassLoader> loaderRef = useInjectorWithSeparateClassLoader();
+
+    // nothing should hold on to the injector's classes once it is no longer used, including
+    // instances that this thread keeps in a thread scope
+    GcFinalization.awaitClear(loaderRef);
+    assertNull("Class loader was not unloaded.", loaderRef.get());
+  }
+
+  @SuppressWarnings("unchecked")
+  private WeakReference<ClassLoader> useInjectorWithSeparateClassLoader() throws Exception {
+    ClassLoader testClassLoader = new TestVisibilityClassLoader(true);
+    final Class<ProxyTest> proxyTest =
+        (Class<ProxyTest>) testClassLoader.loadClass(ProxyTest.class.getName());
+    final Class<ProxyTestImpl> proxyTestImpl =
+        (Class<ProxyTestImpl>) testClassLoader.loadClass(ProxyTestImpl.class.getName());
+
+    Injector injector =
+        Guice.createInjector(
+            interceptorModule,
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(proxyTest).to(proxyTestImpl).in(new ThreadScope());
+              }
+            });
+    Object testObject = injector.getInstance(proxyTest);
+    assertEquals("HELLO WORLD", proxyTestImpl.getMethod("sayHello").invoke(testObject));
+    assertSame(testObject, injector.getInstance(proxyTest));
+
+    return new WeakReference<>(testClassLoader);
+  }
+
   @Test
   public void testProxyingPackagePrivateMethods() {
     // Test relies on package access which CHILD loading doesn't have
@@ -357,11 +396,55 @@ public class BytecodeGenTest {
     o2.getClass().getDeclaredMethod("method").invoke(o2);
   }
 
+  @Test
+  public void testGuiceClassLoaderUnloading() throws Exception {
+    WeakReference<ClassLoader> loaderRef = useGuiceWithSeparateClassLoader();
+
+    // nothing loaded by the parent class loaders, such as the JDK classes that were bound just in
+    // time, should hold on to this copy of Guice once it is no longer used
+    GcFinalization.awaitClear(loaderRef);
+    assertNull("Class loader was not unloaded.", loaderRef.get());
+  }
+
+  private WeakReference<ClassLoader> useGuiceWithSeparateClassLoader() throws Exception {
+    // loads Guice, its dependencies and this test again, as a redeployed web application would
+    URLClassLoader guiceClassLoader =
+        new URLClassLoader(getClassPathUrls(), systemClassLoader.getParent());
+    Callable<?> guiceUser =
+        (Callable<?>)
+            guiceClassLoader.loadClass(GuiceUser.class.getName()).getConstructor().newInstance();
+    assertEquals("HELLO WORLD", guiceUser.call());
+
+    guiceClassLoader.close();
+    return new WeakReference<>(guiceClassLoader);
+  }
+
+  /** Uses the copy of Guice that was loaded by the same class loader as this class. */
+  public static class GuiceUser implements Callable<String> {
+    @Override
+    public String call() {
+      Injector injector =
+          Guice.createInjector(
+              new AbstractModule() {
+                @Override
+                protected void configure() {
+                  bindInterceptor(
+                      subclassesOf(ProxyTest.class), any(), chain -> chain.proceed() + " WORLD");
+                  bind(ProxyTest.class).to(ProxyTestImpl.class);
+                }
+              });
+      injector.getInstance(ArrayList.class);
+      return injector.getInstance(ProxyTest.class).sayHello();
+    }
+  }
+
   // This tests for a situation where an osgi bundle contains a different version of guice.
   @Test
   public void testFastClassWithDifferentVersionsOfGuice() throws Throwable {
-    // Test relies on package access which CHILD loading doesn't have
-    if (InternalFlags.getCustomClassLoadingOption() == CustomClassLoadingOption.CHILD) {
+    // Test relies on package access which CHILD loading doesn't have, and on finding the fast
+    // class in stack traces, which leave out hidden classes
+    if (InternalFlags.getCustomClassLoadingOption() == CustomClassLoadingOption.CHILD
+        || ClassDefining.isHiddenHost(PublicInject.class)) {
       return;
     }
     Injector injector = Guice.createInjector();
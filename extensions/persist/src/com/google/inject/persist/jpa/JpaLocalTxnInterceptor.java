@@ -20,6 +20,10 @@ import com.google.inject.Inject;
 import com.google.inject.persist.Transactional;
 import com.google.inject.persist.UnitOfWork;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityTransaction;
 import org.aopalliance.intercept.MethodInterceptor;
@@ -36,19 +40,31 @@ class JpaLocalTxnInterceptor implements MethodInterceptor {
   @Transactional
   private static class Internal {}
 
-  // Tracks if the unit of work was begun implicitly by this transaction.
-  private final ThreadLocal<Boolean> didWeStartWork = new ThreadLocal<>();
+  /** Metadata of methods annotated with {@code @Transactional}, or {@link #FROM_CLASS}. */
+  private final ConcurrentMap<Method, TransactionMetadata> methodMetadata =
+      new ConcurrentHashMap<>();
+
+  /** Metadata of target classes, from their {@code @Transactional} annotation or the default. */
+  private final ConcurrentMap<Class<?>, TransactionMetadata> classMetadata =
+      new ConcurrentHashMap<>();
+
+  /** Marks methods whose metadata depends on the class of the target. */
+  private static final TransactionMetadata FROM_CLASS =
+      new TransactionMetadata(Internal.class.getAnnotation(Transactional.class));
+
+  private static final TransactionMetadata DEFAULT =
+      new TransactionMetadata(Internal.class.getAnnotation(Transactional.class));
 
   @Override
   public Object invoke(MethodInvocation methodInvocation) throws Throwable {
 
-    // Should we start a unit of work?
+    // Should we start a unit of work? This only concerns this invocation, so a local suffices.
+    boolean didWeStartWork = false;
     if (!emProvider.isWorking()) {
       emProvider.begin();
-      didWeStartWork.set(true);
+      didWeStartWork = true;
     }
 
-    Transactional transactional = readTransactionMetadata(methodInvocation);
     EntityManager em = this.emProvider.get();
 
     // Allow 'joining' of transactions if there is an enclosing @Transactional method.
@@ -56,6 +72,7 @@ class JpaLocalTxnInterceptor implements MethodInterceptor {
       return methodInvocation.proceed();
     }
 
+    TransactionMetadata transactional = readTransactionMetadata(methodInvocation);
     final EntityTransaction txn = em.getTransaction();
     txn.begin();
 
@@ -64,19 +81,21 @@ class JpaLocalTxnInterceptor implements MethodInterceptor {
       result = methodInvocation.proceed();
 
     } catch (Exception e) {
-      //commit transaction only if rollback didnt occur
-      if (rollbackIfNecessary(transactional, e, txn)) {
-        txn.commit();
+      try {
+        //commit transaction only if rollback didnt occur
+        if (rollbackIfNecessary(transactional, e, txn)) {
+          txn.commit();
+        }
+      } finally {
+        // Close the em if necessary, even if the commit or rollback failed and left the
+        // transaction active, so that the thread doesn't keep it.
+        if (didWeStartWork) {
+          unitOfWork.end();
+        }
       }
 
       //propagate whatever exception is thrown anyway
       throw e;
-    } finally {
-      // Close the em if necessary (guarded so this code doesn't run unless catch fired).
-      if (null != didWeStartWork.get() && !txn.isActive()) {
-        didWeStartWork.remove();
-        unitOfWork.end();
-      }
     }
 
     //everything was normal so commit the txn (do not move into try block above as it
@@ -85,8 +104,7 @@ class JpaLocalTxnInterceptor implements MethodInterceptor {
       txn.commit();
     } finally {
       //close the em if necessary
-      if (null != didWeStartWork.get()) {
-        didWeStartWork.remove();
+      if (didWeStartWork) {
         unitOfWork.end();
       }
     }
@@ -95,63 +113,109 @@ class JpaLocalTxnInterceptor implements MethodInterceptor {
     return result;
   }
 
-  // TODO(user): Cache this method's results.
-  private Transactional readTransactionMetadata(MethodInvocation methodInvocation) {
-    Transactional transactional;
+  /**
+   * Returns the metadata of the method's own annotation, or else of its target class's annotation,
+   * or else the default. Annotations are only read the first time a method or class is seen.
+   */
+  private TransactionMetadata readTransactionMetadata(MethodInvocation methodInvocation) {
     Method method = methodInvocation.getMethod();
-    Class<?> targetClass = methodInvocation.getThis().getClass();
-
-    transactional = method.getAnnotation(Transactional.class);
-    if (null == transactional) {
-      // If none on method, try the class.
-      transactional = targetClass.getAnnotation(Transactional.class);
+    TransactionMetadata metadata = methodMetadata.get(method);
+    if (metadata == null) {
+      Transactional transactional = method.getAnnotation(Transactional.class);
+      metadata = transactional != null ? new TransactionMetadata(transactional) : FROM_CLASS;
+      methodMetadata.putIfAbsent(method, metadata);
     }
-    if (null == transactional) {
-      // If there is no transactional annotation present, use the default
-      transactional = Internal.class.getAnnotation(Transactional.class);
+    if (metadata != FROM_CLASS) {
+      return metadata;
     }
 
-    return transactional;
+    // The same inherited method can be intercepted for subclasses with different annotations.
+    Class<?> targetClass = methodInvocation.getThis().getClass();
+    metadata = classMetadata.get(targetClass);
+    if (metadata == null) {
+      Transactional transactional = targetClass.getAnnotation(Transactional.class);
+      // If there is no transactional annotation present, use the default
+      metadata = transactional != null ? new TransactionMetadata(transactional) : DEFAULT;
+      classMetadata.putIfAbsent(targetClass, metadata);
+    }
+    return metadata;
   }
 
   /**
    * Returns True if rollback DID NOT HAPPEN (i.e. if commit should continue).
    *
-   * @param transactional The metadata annotaiton of the method
+   * @param transactional The metadata of the method
    * @param e The exception to test for rollback
    * @param txn A JPA Transaction to issue rollbacks on
    */
   private boolean rollbackIfNecessary(
-      Transactional transactional, Exception e, EntityTransaction txn) {
-    boolean commit = true;
-
-    //check rollback clauses
-    for (Class<? extends Exception> rollBackOn : transactional.rollbackOn()) {
-
-      //if one matched, try to perform a rollback
-      if (rollBackOn.isInstance(e)) {
-        commit = false;
-
-        //check ignore clauses (supercedes rollback clause)
-        for (Class<? extends Exception> exceptOn : transactional.ignore()) {
-          //An exception to the rollback clause was found, DON'T rollback
-          // (i.e. commit and throw anyway)
-          if (exceptOn.isInstance(e)) {
-            commit = true;
+      TransactionMetadata transactional, Exception e, EntityTransaction txn) {
+    if (transactional.rollsBackOn(e)) {
+      txn.rollback();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * The rollback clauses of a {@link Transactional} annotation, copied once so that each exception
+   * doesn't clone the annotation's arrays.
+   */
+  private static final class TransactionMetadata {
+    private final Class<?>[] rollbackOn;
+    private final Class<?>[] ignore;
+
+    TransactionMetadata(Transactional transactional) {
+      this.rollbackOn = flatten(transactional.rollbackOn());
+      // an ignore clause only matters for exceptions that some rollback clause matches too
+      List<Class<?>> relevantIgnores = new ArrayList<>();
+      for (Class<?> exceptOn : flatten(transactional.ignore())) {
+        for (Class<?> rollBackOn : rollbackOn) {
+          if (rollBackOn.isAssignableFrom(exceptOn) || exceptOn.isAssignableFrom(rollBackOn)) {
+            relevantIgnores.add(exceptOn);
             break;
           }
         }
+      }
+      this.ignore = relevantIgnores.toArray(new Class<?>[0]);
+    }
 
-        //rollback only if nothing matched the ignore check
-        if (!commit) {
-          txn.rollback();
+    /** Returns the distinct classes, without those already covered by one of their superclasses. */
+    private static Class<?>[] flatten(Class<?>[] classes) {
+      List<Class<?>> flattened = new ArrayList<>();
+      for (Class<?> candidate : classes) {
+        boolean covered = false;
+        for (Class<?> other : classes) {
+          if (other != candidate && other.isAssignableFrom(candidate)) {
+            covered = true;
+            break;
+          }
+        }
+        if (!covered && !flattened.contains(candidate)) {
+          flattened.add(candidate);
         }
-        //otherwise continue to commit
-
-        break;
       }
+      return flattened.toArray(new Class<?>[0]);
     }
 
-    return commit;
+    /**
+     * Returns true if a rollback clause matches the exception and no ignore clause does, because
+     * ignore clauses supersede rollback clauses.
+     */
+    boolean rollsBackOn(Exception e) {
+      for (Class<?> rollBackOn : rollbackOn) {
+        if (rollBackOn.isInstance(e)) {
+          for (Class<?> exceptOn : ignore) {
+            //An exception to the rollback clause was found, DON'T rollback
+            // (i.e. commit and throw anyway)
+            if (exceptOn.isInstance(e)) {
+              return false;
+            }
+          }
+          return true;
+        }
+      }
+      return false;
+    }
   }
 }
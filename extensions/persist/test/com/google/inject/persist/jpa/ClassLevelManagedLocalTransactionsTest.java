@@ -43,6 +43,7 @@ public class ClassLevelManagedLocalTransactionsTest extends TestCase {
   private static final String UNIQUE_TEXT_2 = "JPAsome asda unique teasdalsdplasdxt" + new Date();
   private static final String TRANSIENT_UNIQUE_TEXT =
       "JPAsome other unique texaksoksojadasdt" + new Date();
+  private static final String INHERITED_UNIQUE_TEXT = "JPAsome inherited unique text" + new Date();
 
   @Override
   public void setUp() {
@@ -161,6 +162,37 @@ public class ClassLevelManagedLocalTransactionsTest extends TestCase {
     assertTrue("a result was returned! rollback sure didnt happen!!!", result.isEmpty());
   }
 
+  public void testInheritedMethodUsesEachSubclassMetadata() {
+    // the same inherited method rolls back for one subclass and commits for the other
+    try {
+      injector.getInstance(RollingBackSubclass.class).runOperationInTxnThrowingChecked();
+      fail("Exception was not thrown by test txn-al method!");
+    } catch (IOException e) {
+      //ignored
+    }
+    try {
+      injector.getInstance(CommittingSubclass.class).runOperationInTxnThrowingChecked();
+      fail("Exception was not thrown by test txn-al method!");
+    } catch (IOException e) {
+      //ignored
+    }
+
+    EntityManager session = injector.getInstance(EntityManager.class);
+    assertFalse(
+        "Txn was not closed by transactional service", session.getTransaction().isActive());
+
+    session.getTransaction().begin();
+    List<?> result =
+        session
+            .createQuery("from JpaTestEntity where text = :text")
+            .setParameter("text", INHERITED_UNIQUE_TEXT)
+            .getResultList();
+
+    session.getTransaction().commit();
+
+    assertEquals("only the committing subclass should have stored its entity", 1, result.size());
+  }
+
   @Transactional
   public static class TransactionalObject {
     @Inject EntityManager session;
@@ -215,4 +247,23 @@ public class ClassLevelManagedLocalTransactionsTest extends TestCase {
       throw new IOException();
     }
   }
+
+  public static class InheritedOperation {
+    @Inject EntityManager session;
+
+    public void runOperationInTxnThrowingChecked() throws IOException {
+      assertTrue(session.getTransaction().isActive());
+      JpaTestEntity entity = new JpaTestEntity();
+      entity.setText(INHERITED_UNIQUE_TEXT);
+      session.persist(entity);
+
+      throw new IOException();
+    }
+  }
+
+  @Transactional(rollbackOn = IOException.class)
+  public static class RollingBackSubclass extends InheritedOperation {}
+
+  @Transactional
+  public static class CommittingSubclass extends InheritedOperation {}
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.persist.jpa;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.persist.UnitOfWork;
+import java.util.Properties;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import junit.framework.TestCase;
+import org.aopalliance.intercept.MethodInvocation;
+
+public class JpaLocalTxnInterceptorTest extends TestCase {
+
+  private final JpaPersistService persistService =
+      new JpaPersistService("test_persistence_unit_name", new Properties());
+  private final EntityManagerFactory factory = mock(EntityManagerFactory.class);
+  private final EntityManager entityManager = mock(EntityManager.class);
+  private final EntityTransaction transaction = mock(EntityTransaction.class);
+  private final MethodInvocation invocation = mock(MethodInvocation.class);
+  private final JpaLocalTxnInterceptor interceptor = new JpaLocalTxnInterceptor();
+
+  @Override
+  public void setUp() throws Exception {
+    when(factory.createEntityManager()).thenReturn(entityManager);
+    when(entityManager.getTransaction()).thenReturn(transaction);
+    when(invocation.getMethod()).thenReturn(Object.class.getMethod("toString"));
+    when(invocation.getThis()).thenReturn(new Object());
+    persistService.start(factory);
+    Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(JpaPersistService.class).toInstance(persistService);
+                bind(UnitOfWork.class).toInstance(persistService);
+              }
+            })
+        .injectMembers(interceptor);
+  }
+
+  public void testFailedRollbackEndsUnitOfWork() throws Throwable {
+    // the transaction is inactive until it begins, and stays active since the rollback fails
+    when(transaction.isActive()).thenReturn(false, true);
+    when(invocation.proceed()).thenThrow(new IllegalStateException("call failed"));
+    doThrow(new IllegalStateException("rollback failed")).when(transaction).rollback();
+
+    try {
+      interceptor.invoke(invocation);
+      fail();
+    } catch (IllegalStateException expected) {
+      assertEquals("rollback failed", expected.getMessage());
+    }
+    assertFalse(persistService.isWorking());
+    verify(entityManager).close();
+  }
+
+  public void testFailedCommitEndsUnitOfWork() throws Throwable {
+    when(transaction.isActive()).thenReturn(false, true);
+    when(invocation.proceed()).thenReturn("result");
+    doThrow(new IllegalStateException("commit failed")).when(transaction).commit();
+
+    try {
+      interceptor.invoke(invocation);
+      fail();
+    } catch (IllegalStateException expected) {
+      assertEquals("commit failed", expected.getMessage());
+    }
+    assertFalse(persistService.isWorking());
+    verify(entityManager).close();
+  }
+}
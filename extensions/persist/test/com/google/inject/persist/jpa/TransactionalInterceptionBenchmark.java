@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.persist.jpa;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.persist.PersistService;
+import com.google.inject.persist.Transactional;
+import com.google.inject.persist.UnitOfWork;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the time and bytes allocated to call a {@link Transactional} method, both when it begins
+ * its own transaction and when it joins one that is already active. Uses the in-memory database of
+ * the {@code testUnit} persistence unit.
+ */
+public class TransactionalInterceptionBenchmark {
+
+  static final int CALLS = 200_000;
+
+  public static class Service {
+    @Transactional
+    public int work() {
+      return 1;
+    }
+  }
+
+  public static class Caller {
+    @Inject Service service;
+
+    /** Calls the service repeatedly from within a single transaction, so each call joins it. */
+    @Transactional
+    public int joinRepeatedly(int calls) {
+      int sum = 0;
+      for (int i = 0; i < calls; i++) {
+        sum += service.work();
+      }
+      return sum;
+    }
+  }
+
+  public static void main(String[] args) {
+    Injector injector = Guice.createInjector(new JpaPersistModule("testUnit"));
+    injector.getInstance(PersistService.class).start();
+    Service service = injector.getInstance(Service.class);
+    Caller caller = injector.getInstance(Caller.class);
+    UnitOfWork unitOfWork = injector.getInstance(UnitOfWork.class);
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+
+    try {
+      for (int i = 0; i < 10; i++) {
+        // each call begins and commits its own transaction within an open unit of work
+        unitOfWork.begin();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        int sum = 0;
+        for (int j = 0; j < CALLS; j++) {
+          sum += service.work();
+        }
+        long ownNanos = System.nanoTime() - start;
+        long ownBytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        unitOfWork.end();
+
+        bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        start = System.nanoTime();
+        sum += caller.joinRepeatedly(CALLS);
+        long joinedNanos = System.nanoTime() - start;
+        long joinedBytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        if (sum != 2 * CALLS) {
+          throw new AssertionError();
+        }
+        System.err.printf(
+            "own transaction: %7.1f ns/call %7.1f bytes/call   "
+                + "joined: %5.1f ns/call %5.1f bytes/call%n",
+            (double) ownNanos / CALLS,
+            (double) ownBytes / CALLS,
+            (double) joinedNanos / CALLS,
+            (double) joinedBytes / CALLS);
+      }
+    } finally {
+      injector.getInstance(PersistService.class).stop();
+    }
+  }
+}
@@ -16,10 +16,9 @@
 package com.google.inject.servlet;
 
 import com.google.common.base.Throwables;
-import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Lists;
+import com.google.inject.internal.InternalFlags;
 import java.io.IOException;
-import java.util.List;
+import java.util.Arrays;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -42,8 +41,7 @@ import javax.servlet.http.HttpServletResponse;
  */
 class FilterChainInvocation implements FilterChain {
 
-  private static final ImmutableSet<String> SERVLET_INTERNAL_METHODS =
-      ImmutableSet.of(FilterChainInvocation.class.getName() + ".doFilter");
+  private static final boolean PRUNE_STACK_TRACES = InternalFlags.isStackTracePruningEnabled();
 
   private final FilterDefinition[] filterDefinitions;
   private final FilterChain proceedingChain;
@@ -95,7 +93,9 @@ class FilterChainInvocation implements FilterChain {
       // want to iterate through the stack elements for every filter.
       if (!cleanedStacks) {
         cleanedStacks = true;
-        pruneStacktrace(t);
+        if (PRUNE_STACK_TRACES) {
+          pruneStacktrace(t);
+        }
       }
       Throwables.propagateIfInstanceOf(t, ServletException.class);
       Throwables.propagateIfInstanceOf(t, IOException.class);
@@ -126,14 +126,17 @@ class FilterChainInvocation implements FilterChain {
   private void pruneStacktrace(Throwable throwable) {
     for (Throwable t = throwable; t != null; t = t.getCause()) {
       StackTraceElement[] stackTrace = t.getStackTrace();
-      List<StackTraceElement> pruned = Lists.newArrayList();
+      StackTraceElement[] pruned = new StackTraceElement[stackTrace.length];
+      int prunedLength = 0;
       for (StackTraceElement element : stackTrace) {
-        String name = element.getClassName() + "." + element.getMethodName();
-        if (!SERVLET_INTERNAL_METHODS.contains(name)) {
-          pruned.add(element);
+        if (!element.getClassName().equals(FilterChainInvocation.class.getName())
+            || !element.getMethodName().equals("doFilter")) {
+          pruned[prunedLength++] = element;
         }
       }
-      t.setStackTrace(pruned.toArray(new StackTraceElement[pruned.size()]));
+      if (prunedLength < stackTrace.length) {
+        t.setStackTrace(Arrays.copyOf(pruned, prunedLength));
+      }
     }
   }
 }
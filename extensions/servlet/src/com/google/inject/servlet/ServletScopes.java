@@ -20,12 +20,14 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.google.inject.Binding;
+import com.google.inject.IndexedScope;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.OutOfScopeException;
 import com.google.inject.Provider;
 import com.google.inject.Scope;
 import com.google.inject.Scopes;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.locks.Lock;
@@ -58,11 +60,22 @@ public class ServletScopes {
   /** HTTP servlet request scope. */
   public static final Scope REQUEST = new RequestScope();
 
-  private static final class RequestScope implements Scope {
+  private static final class RequestScope implements IndexedScope {
+    /** The slot of providers scoped directly, rather than by an injector. */
+    private static final int NO_SLOT = -1;
+
     @Override
-    public <T> Provider<T> scope(final Key<T> key, final Provider<T> creator) {
+    public <T> Provider<T> scope(Key<T> key, Provider<T> creator) {
+      return scope(key, NO_SLOT, creator);
+    }
+
+    @Override
+    public <T> Provider<T> scope(final Key<T> key, final int slot, final Provider<T> creator) {
       return new Provider<T>() {
 
+        /** Identifies this provider's instance in its slot of a non-http request scope. */
+        private final Object token = new Object();
+
         /** Keys bound in request-scope which are handled directly by GuiceFilter. */
         private final ImmutableSet<Key<?>> REQUEST_CONTEXT_KEYS =
             ImmutableSet.of(
@@ -81,22 +94,23 @@ public class ServletScopes {
             // a reference to it, and it is only available via a threadlocal.
             Context context = requestScopeContext.get();
             if (null != context) {
-              @SuppressWarnings("unchecked")
-              T t = (T) context.map.get(key);
+              Object obj = context.get(key, slot, token);
+              if (obj == null) {
+                T t = creator.get();
+                if (Scopes.isCircularProxy(t)) {
+                  return t;
+                }
+                // Store a sentinel for provider-given null values.
+                obj = t != null ? t : NullObject.INSTANCE;
+                context.put(key, slot, token, obj);
+              }
 
               // Accounts for @Nullable providers.
-              if (NullObject.INSTANCE == t) {
+              if (NullObject.INSTANCE == obj) {
                 return null;
               }
-
-              if (t == null) {
-                t = creator.get();
-                if (!Scopes.isCircularProxy(t)) {
-                  // Store a sentinel for provider-given null values.
-                  context.map.put(key, t != null ? t : NullObject.INSTANCE);
-                }
-              }
-
+              @SuppressWarnings("unchecked")
+              T t = (T) obj;
               return t;
             } // else: fall into normal HTTP request scope and out of scope
             // exception is thrown.
@@ -398,8 +412,39 @@ public class ServletScopes {
   }
 
   private static class Context implements RequestScoper {
+    /** The seeded instances, and those of providers that were scoped without a slot, by key. */
     final Map<Key<?>, Object> map = Maps.newHashMap();
 
+    /**
+     * The instances of request scoped bindings by {@link IndexedScope slot}, each stored as the
+     * pair of the scoped provider's token and the instance, so a slot that was handed out again
+     * after its injector was collected doesn't return the former binding's instance.
+     */
+    Object[] slots = new Object[0];
+
+    /** Returns the instance of the given scoped provider, or a seeded one, or null if neither. */
+    Object get(Key<?> key, int slot, Object token) {
+      int i = slot * 2;
+      if (i >= 0 && i < slots.length && slots[i] == token) {
+        return slots[i + 1];
+      }
+      return map.get(key);
+    }
+
+    /** Stores an instance of the given scoped provider, by slot if it has one. */
+    void put(Key<?> key, int slot, Object token, Object value) {
+      int i = slot * 2;
+      if (i < 0) {
+        map.put(key, value);
+        return;
+      }
+      if (i >= slots.length) {
+        slots = Arrays.copyOf(slots, Math.max(i + 2, slots.length * 2));
+      }
+      slots[i] = token;
+      slots[i + 1] = value;
+    }
+
     // Synchronized to prevent two threads from using the same request
     // scope concurrently.
     final Lock lock = new ReentrantLock();
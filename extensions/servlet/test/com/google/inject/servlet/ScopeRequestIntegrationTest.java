@@ -146,6 +146,37 @@ public class ScopeRequestIntegrationTest extends TestCase {
     assertNull(callable.call());
   }
 
+  public final void testNonHttpRequestScopeKeepsOneInstancePerBinding() throws Exception {
+    ServletModule module =
+        new ServletModule() {
+          @Override
+          protected void configureServlets() {
+            bindConstant().annotatedWith(Names.named(SomeObject.INVALID)).to(A_VALUE);
+          }
+        };
+    final Injector injector = Guice.createInjector(module);
+    final Injector other = Guice.createInjector(module);
+    final Provider<Object> direct =
+        ServletScopes.REQUEST.scope(Key.get(Object.class), Object::new);
+    final Provider<Object> sameKey =
+        ServletScopes.REQUEST.scope(Key.get(Object.class), Object::new);
+
+    ServletScopes.scopeRequest(
+            () -> {
+              SomeObject someObject = injector.getInstance(SomeObject.class);
+              assertSame(someObject, injector.getInstance(SomeObject.class));
+              SomeObject otherObject = other.getInstance(SomeObject.class);
+              assertSame(otherObject, other.getInstance(SomeObject.class));
+              assertNotSame(someObject, otherObject);
+
+              // providers scoped without an injector are shared by key
+              assertSame(direct.get(), sameKey.get());
+              return null;
+            },
+            ImmutableMap.<Key<?>, Object>of())
+        .call();
+  }
+
   @RequestScoped
   public static class SomeObject {
     private static final String INVALID = "invalid";